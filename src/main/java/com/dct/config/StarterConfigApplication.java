@@ -11,7 +11,6 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 @EnableAsync
 @EnableFeignClients
@@ -26,7 +25,6 @@ public class StarterConfigApplication {
      */
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(StarterConfigApplication.class);
-        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_INHERITABLETHREADLOCAL);
         ConfigurableApplicationContext context = app.run(args);
         Environment env = context.getEnvironment();
         logApplicationStartup(env);
@@ -1,6 +1,9 @@
 package com.dct.config.aop;
 
 import com.dct.config.aop.annotation.CheckAuthorize;
+import com.dct.config.exception.StacklessAuthenticationException;
+import com.dct.config.security.authority.AuthorityMask;
+import com.dct.config.security.authority.AuthorityRegistry;
 import com.dct.model.constants.BaseExceptionConstants;
 import com.dct.model.exception.BaseAuthenticationException;
 
@@ -14,12 +17,21 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An AOP (Aspect-Oriented Programming) class in Spring <p>
@@ -30,15 +42,25 @@ import java.util.Objects;
 public abstract class BaseCheckAuthorizeAspect {
     private static final Logger log = LoggerFactory.getLogger(BaseCheckAuthorizeAspect.class);
     private static final String ENTITY_NAME = "com.dct.config.aop.BaseCheckAuthorizeAspect";
+    private static final ClassValue<Map<Method, RequiredAuthorities>> REQUIRED_AUTHORITIES = new ClassValue<>() {
+        @Override
+        protected Map<Method, RequiredAuthorities> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
      * {@link Pointcut} specifies where (in which method, class, or annotation) AOP logic will be applied<p>
      * This function only serves to name and define the pointcut, it does not execute any logic<p>
      * Reusability: If you need to use the same pointcut in multiple places
      * (for example, in @{@link Around}, @{@link Before}, or @{@link After} annotations),
-     * you can simply reference this function
+     * you can simply reference this function <p>
+     * Matches methods annotated with @{@link CheckAuthorize} and every method of classes annotated with it
      */
-    @Pointcut("@annotation(com.dct.config.aop.annotation.CheckAuthorize)") // Full path to CustomAnnotation class
+    @Pointcut(
+        "@annotation(com.dct.config.aop.annotation.CheckAuthorize) " +
+        "|| @within(com.dct.config.aop.annotation.CheckAuthorize)"
+    ) // Full path to CustomAnnotation class
     public void checkAuthorizeByJwt() {}
 
     /**
@@ -50,13 +72,16 @@ public abstract class BaseCheckAuthorizeAspect {
      */
     @Around("checkAuthorizeByJwt()")
     public Object aroundCheckAuthorizeByJwt(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
-        // Retrieve the annotation to check the list of required permissions for the current method
+        // Required authorities are resolved only once per target class and method
         MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getStaticPart().getSignature();
-        CheckAuthorize annotation = methodSignature.getMethod().getAnnotation(CheckAuthorize.class);
-        String[] requiredAuthorities = annotation.authorities();
+        Method method = methodSignature.getMethod();
+        Class<?> targetClass = Objects.nonNull(proceedingJoinPoint.getTarget())
+                ? ClassUtils.getUserClass(proceedingJoinPoint.getTarget())
+                : method.getDeclaringClass();
+        RequiredAuthorities required = requiredAuthorities(method, targetClass);
 
         // If the user has sufficient permissions, allow the request to proceed
-        if (checkAuthorize(requiredAuthorities))
+        if (checkAuthorize(required.mask(), required.authorities()))
             return proceedingJoinPoint.proceed();
 
         try {
@@ -70,8 +95,72 @@ public abstract class BaseCheckAuthorizeAspect {
         } catch (Exception ignore) {}
 
         // Throw an exception to allow CustomExceptionHandler handling and return a response to the client
-        throw new BaseAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
+        throw new StacklessAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
+    }
+
+    /**
+     * Checks the authorization of a handler method before it is invoked, without proceeding with it <p>
+     * Used by components answering requests ahead of the handler, such as conditional requests,
+     * so that they do not answer callers that the aspect would reject
+     *
+     * @return true if the method is not annotated with @{@link CheckAuthorize}
+     * or the current user has all required authorities
+     */
+    public boolean isAuthorized(Method method, Class<?> targetClass) {
+        boolean annotated = AnnotatedElementUtils.hasAnnotation(method, CheckAuthorize.class)
+                || AnnotatedElementUtils.hasAnnotation(targetClass, CheckAuthorize.class);
+
+        if (!annotated) {
+            return true;
+        }
+
+        RequiredAuthorities required = requiredAuthorities(method, targetClass);
+        return checkAuthorize(required.mask(), required.authorities());
+    }
+
+    private static RequiredAuthorities requiredAuthorities(Method method, Class<?> targetClass) {
+        return REQUIRED_AUTHORITIES.get(targetClass)
+                .computeIfAbsent(method, key -> RequiredAuthorities.resolve(key, targetClass));
+    }
+
+    /**
+     * Checks the required authorities using their precomputed {@link AuthorityMask} <p>
+     * Delegates to {@link #checkAuthorize(String[])} by default, override to compare masks directly
+     *
+     * @param requiredMask bitset of the required authorities
+     * @param requiredAuthorities the required authorities declared by @{@link CheckAuthorize},
+     *                            shared by all invocations of the method and must not be modified
+     * @return true if the current user has all required authorities
+     */
+    protected boolean checkAuthorize(AuthorityMask requiredMask, String[] requiredAuthorities) {
+        return checkAuthorize(requiredAuthorities);
     }
 
     protected abstract boolean checkAuthorize(String[] requiredAuthorities);
+
+    /**
+     * Immutable authorization requirements of a method, merging class-level and method-level @{@link CheckAuthorize}
+     * @param authorities the required authorities, class-level ones first, without duplicates
+     * @param mask bitset of the required authorities
+     */
+    private record RequiredAuthorities(String[] authorities, AuthorityMask mask) {
+
+        static RequiredAuthorities resolve(Method method, Class<?> targetClass) {
+            Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+            CheckAuthorize classAnnotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, CheckAuthorize.class);
+            CheckAuthorize methodAnnotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, CheckAuthorize.class);
+            Set<String> authorities = new LinkedHashSet<>();
+
+            if (Objects.nonNull(classAnnotation)) {
+                authorities.addAll(Arrays.asList(classAnnotation.authorities()));
+            }
+
+            if (Objects.nonNull(methodAnnotation)) {
+                authorities.addAll(Arrays.asList(methodAnnotation.authorities()));
+            }
+
+            String[] requiredAuthorities = authorities.toArray(String[]::new);
+            return new RequiredAuthorities(requiredAuthorities, AuthorityRegistry.maskOf(requiredAuthorities));
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.dct.config.aop;
 
 import com.dct.config.aop.annotation.CheckAuthorize;
+import com.dct.config.security.authority.AuthorityMask;
+import com.dct.config.security.authority.AuthorityMaskAuthenticationToken;
 
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.security.core.Authentication;
@@ -8,6 +10,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,6 +25,29 @@ import java.util.stream.Collectors;
 @Aspect
 public class DefaultCheckAuthorizeAspect extends BaseCheckAuthorizeAspect {
 
+    @Override
+    protected boolean checkAuthorize(AuthorityMask requiredMask, String[] requiredAuthorities) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (Objects.isNull(authentication)) {
+            return false;
+        }
+
+        // Authentications created by the starter filters carry the mask of their authorities,
+        // authorities outside the registry are not part of the mask and are checked by name
+        if (authentication instanceof AuthorityMaskAuthenticationToken token) {
+            if (token.getAuthorityMask().containsAll(requiredMask)) {
+                return true;
+            }
+
+            if (token.isMaskComplete()) {
+                return false;
+            }
+        }
+
+        return checkAuthorize(requiredAuthorities);
+    }
+
     @Override
     protected boolean checkAuthorize(String[] requiredAuthorities) {
         // Check against the list of permissions of the current user in security context
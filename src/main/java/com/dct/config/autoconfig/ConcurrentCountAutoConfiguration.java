@@ -0,0 +1,40 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.common.ConcurrentCountExecutor;
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.properties.ConcurrentCountProps;
+import com.dct.model.constants.ActivateStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@AutoConfigureAfter(HibernateJpaAutoConfiguration.class)
+@EnableConfigurationProperties(ConcurrentCountProps.class)
+@ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_CONCURRENT_COUNT, havingValue = ActivateStatus.ENABLED_VALUE)
+public class ConcurrentCountAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentCountAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(ConcurrentCountExecutor.class)
+    public ConcurrentCountExecutor concurrentCountExecutor(EntityManagerFactory entityManagerFactory,
+                                                           ConcurrentCountProps concurrentCountProps) {
+        log.debug("[CONCURRENT_COUNT_AUTO_CONFIG] - Use concurrent count executor with timeout: {}ms",
+                concurrentCountProps.getTimeout());
+        return new ConcurrentCountExecutor(
+            entityManagerFactory,
+            concurrentCountProps.getThreads(),
+            concurrentCountProps.getQueueCapacity(),
+            concurrentCountProps.getTimeout()
+        );
+    }
+}
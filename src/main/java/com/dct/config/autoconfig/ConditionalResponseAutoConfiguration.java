@@ -0,0 +1,44 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.etag.ConditionalResponseAdvice;
+import com.dct.config.etag.ConditionalResponseInterceptor;
+import com.dct.model.autoconfig.DataConverterAutoConfiguration;
+import com.dct.model.constants.ActivateStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@AutoConfiguration
+@ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_CONDITIONAL_RESPONSE, havingValue = ActivateStatus.ENABLED_VALUE)
+public class ConditionalResponseAutoConfiguration implements WebMvcConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(ConditionalResponseAutoConfiguration.class);
+    private final ConditionalResponseInterceptor conditionalResponseInterceptor;
+
+    public ConditionalResponseAutoConfiguration(ApplicationContext applicationContext) {
+        this.conditionalResponseInterceptor = new ConditionalResponseInterceptor(applicationContext);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        log.debug("[CONDITIONAL_RESPONSE_AUTO_CONFIG] - Check versions of `@ConditionalResponse` handlers");
+        registry.addInterceptor(conditionalResponseInterceptor);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ConditionalResponseAdvice.class)
+    public ConditionalResponseAdvice conditionalResponseAdvice(ObjectProvider<ObjectMapper> objectMapper) {
+        log.debug("[CONDITIONAL_RESPONSE_AUTO_CONFIG] - Use ETags of serialized responses");
+        return new ConditionalResponseAdvice(objectMapper.getIfAvailable(DataConverterAutoConfiguration::buildObjectMapper));
+    }
+}
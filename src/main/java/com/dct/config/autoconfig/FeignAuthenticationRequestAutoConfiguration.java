@@ -2,10 +2,12 @@ package com.dct.config.autoconfig;
 
 import com.dct.config.interceptor.BaseFeignAuthenticationRequestFilter;
 import com.dct.config.interceptor.DefaultFeignAuthenticationRequestFilter;
+import com.dct.config.security.identity.IdentityHeaderCodec;
 import com.dct.model.config.properties.SecurityProps;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -21,8 +23,10 @@ public class FeignAuthenticationRequestAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(BaseFeignAuthenticationRequestFilter.class)
-    public BaseFeignAuthenticationRequestFilter defaultFeignSecurityHeaderInterceptor() {
+    public BaseFeignAuthenticationRequestFilter defaultFeignSecurityHeaderInterceptor(
+        @Autowired(required = false) IdentityHeaderCodec identityHeaderCodec
+    ) {
         log.debug("[FEIGN_SECURITY_AUTO_CONFIG] - Use default feign header security interceptor");
-        return new DefaultFeignAuthenticationRequestFilter(securityProps);
+        return new DefaultFeignAuthenticationRequestFilter(securityProps, identityHeaderCodec);
     }
 }
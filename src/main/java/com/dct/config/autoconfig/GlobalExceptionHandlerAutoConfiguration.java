@@ -1,18 +1,35 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.common.DeduplicatingErrorLogger;
 import com.dct.config.exception.BaseExceptionHandler;
 import com.dct.config.exception.DefaultBaseExceptionHandler;
+import com.dct.config.exception.StackTracePolicy;
+import com.dct.config.properties.ExceptionHandlerProps;
+import com.dct.model.constants.ActivateStatus;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 @AutoConfiguration
+@EnableConfigurationProperties(ExceptionHandlerProps.class)
 public class GlobalExceptionHandlerAutoConfiguration {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandlerAutoConfiguration.class);
 
+    public GlobalExceptionHandlerAutoConfiguration(ExceptionHandlerProps exceptionHandlerProps) {
+        boolean stackless = ActivateStatus.ENABLED.equals(exceptionHandlerProps.getStackless());
+        log.debug("[EXCEPTION_HANDLER_AUTO_CONFIG] - Stackless client error exceptions: {}", stackless);
+        StackTracePolicy.configure(stackless, exceptionHandlerProps.getStackTraceTypes());
+        DeduplicatingErrorLogger.configure(
+            exceptionHandlerProps.getErrorLogSummaryInterval(),
+            exceptionHandlerProps.getErrorLogStackFrames(),
+            exceptionHandlerProps.getErrorLogMaximumFingerprints()
+        );
+    }
+
     @Bean
     @ConditionalOnMissingBean(BaseExceptionHandler.class)
     public BaseExceptionHandler defaultBaseExceptionHandler() {
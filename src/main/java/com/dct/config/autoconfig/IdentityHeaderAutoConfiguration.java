@@ -0,0 +1,34 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.properties.IdentityHeaderProps;
+import com.dct.config.security.identity.IdentityHeaderCodec;
+import com.dct.model.constants.ActivateStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(IdentityHeaderProps.class)
+@ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_IDENTITY_HEADER, havingValue = ActivateStatus.ENABLED_VALUE)
+public class IdentityHeaderAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(IdentityHeaderAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(IdentityHeaderCodec.class)
+    public IdentityHeaderCodec defaultIdentityHeaderCodec(IdentityHeaderProps identityHeaderProps) {
+        log.debug("[IDENTITY_HEADER_AUTO_CONFIG] - Use signed identity header: {}", identityHeaderProps.getHeaderName());
+        return new IdentityHeaderCodec(
+            identityHeaderProps.getHeaderName(),
+            identityHeaderProps.getSecret(),
+            identityHeaderProps.getTimeToLive(),
+            identityHeaderProps.getAuthorities(),
+            identityHeaderProps.getMaximumCacheSize()
+        );
+    }
+}
@@ -1,5 +1,10 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.common.ErrorResponseWriter;
+import com.dct.config.i18n.CachingAcceptHeaderLocaleResolver;
+import com.dct.config.i18n.CachingReloadableResourceBundleMessageSource;
+import com.dct.config.i18n.MessagesReloadedEvent;
+import com.dct.config.properties.LocaleResolverProps;
 import com.dct.model.common.MessageTranslationUtils;
 import com.dct.model.config.properties.I18nProps;
 
@@ -10,6 +15,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.servlet.LocaleResolver;
@@ -23,24 +29,31 @@ import java.util.Optional;
  * Useful when using Hibernate Validator with annotations like @NotNull, @Size,... <p>
  * In Spring, {@link LocaleResolver} determines the current language of the application based on the HTTP request. <p>
  * {@link AcceptHeaderLocaleResolver} automatically analyzes the value of the Accept-Language header in each request
- * and selects the locale <p>
+ * and selects the locale, the resolved locale is cached per header value <p>
  * This {@link Locale} value is used to retrieve internationalized messages (I18n)
  * @author thoaidc
  */
 @AutoConfiguration
-@EnableConfigurationProperties(I18nProps.class)
+@EnableConfigurationProperties({I18nProps.class, LocaleResolverProps.class})
 public class LocaleAutoConfiguration {
     private static final Logger log = LoggerFactory.getLogger(LocaleAutoConfiguration.class);
     private final I18nProps i18nProps;
+    private final LocaleResolverProps localeResolverProps;
 
-    public LocaleAutoConfiguration(I18nProps i18nProps) {
+    public LocaleAutoConfiguration(I18nProps i18nProps, LocaleResolverProps localeResolverProps) {
         this.i18nProps = i18nProps;
+        this.localeResolverProps = localeResolverProps;
     }
 
     @Bean
     public LocaleResolver defaultLocaleResolver() {
-        log.debug("[LOCALE_RESOLVER_AUTO_CONFIG] - Use `AcceptHeaderLocaleResolver` as default local resolver");
-        return new AcceptHeaderLocaleResolver();
+        log.debug("[LOCALE_RESOLVER_AUTO_CONFIG] - Use `CachingAcceptHeaderLocaleResolver` as default local resolver");
+        AcceptHeaderLocaleResolver localeResolver = new CachingAcceptHeaderLocaleResolver(
+            localeResolverProps.getMaximumCacheSize()
+        );
+        localeResolver.setSupportedLocales(localeResolverProps.getSupportedLocales());
+        localeResolver.setDefaultLocale(localeResolverProps.getDefaultLocale());
+        return localeResolver;
     }
 
     @Bean
@@ -48,7 +61,8 @@ public class LocaleAutoConfiguration {
     public MessageSource messageSource() {
         log.debug("[MESSAGE_SOURCE_AUTO_CONFIG] - Use default MessageSource");
         // Provides a mechanism to load notifications from .properties files to support i18n
-        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+        // Resolved messages are cached per code and locale until the bundles are reloaded
+        ReloadableResourceBundleMessageSource messageSource = new CachingReloadableResourceBundleMessageSource();
         // Set the location of the message files
         // Spring will look for files by name messages_{locale}.properties
         messageSource.setBasenames(Optional.ofNullable(i18nProps).orElse(new I18nProps()).getBaseNames());
@@ -63,6 +77,15 @@ public class LocaleAutoConfiguration {
         return new MessageTranslationUtils(messageSource);
     }
 
+    /**
+     * Translated error bodies are cached by {@link ErrorResponseWriter}, they must be rendered again after a reload
+     */
+    @EventListener(MessagesReloadedEvent.class)
+    public void clearErrorResponses() {
+        log.debug("[MESSAGE_SOURCE_AUTO_CONFIG] - Messages reloaded, clear cached error responses");
+        ErrorResponseWriter.clear();
+    }
+
     @Bean
     public LocalValidatorFactoryBean defaultLocalValidatorFactoryBean(MessageSource messageSource) {
         log.debug("[LOCAL_VALIDATOR_AUTO_CONFIG] - Use default MessageSource for hibernate validation");
@@ -1,5 +1,7 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.common.DeduplicatingErrorLogger;
+import com.dct.config.security.context.SecurityContextClearingInterceptor;
 import com.dct.model.config.properties.RabbitMQProps;
 import com.dct.model.constants.ActivateStatus;
 import com.dct.model.constants.BasePropertiesConstants;
@@ -205,6 +207,8 @@ public class RabbitMQAutoConfiguration {
         factory.setPrefetchCount(rabbitMQProps.getConsumer().getPrefetchCount());
         factory.setErrorHandler(errorHandler());
         factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        // Consumer threads are long-lived, never keep a security context from one message to the next
+        factory.setAdviceChain(new SecurityContextClearingInterceptor());
         return factory;
     }
 
@@ -220,8 +224,12 @@ public class RabbitMQAutoConfiguration {
         public boolean isFatal(@Nonnull Throwable error) {
             if (error instanceof ListenerExecutionFailedException exception) {
                 String queueName = exception.getFailedMessage().getMessageProperties().getConsumerQueue();
-                log.error("[RABBIT_MQ_ERROR] - Failed to process message from queue: {}", queueName, error);
-                log.error("[RABBIT_MQ_ERROR] - Failed message: {}", exception.getFailedMessage());
+                String template = "[RABBIT_MQ_ERROR] - Failed to process message from queue: {}";
+
+                // The failed message is only logged with the full error, not with each repeated occurrence
+                if (DeduplicatingErrorLogger.error(log, template, queueName, error)) {
+                    log.error("[RABBIT_MQ_ERROR] - Failed message: {}", exception.getFailedMessage());
+                }
             }
 
             return super.isFatal(error);
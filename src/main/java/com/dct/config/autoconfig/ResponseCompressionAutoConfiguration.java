@@ -0,0 +1,47 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.compression.CompressedResponseCache;
+import com.dct.config.compression.DeflaterPool;
+import com.dct.config.compression.ResponseCompressionFilter;
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.properties.ResponseCompressionProps;
+import com.dct.model.constants.ActivateStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+@AutoConfiguration
+@EnableConfigurationProperties(ResponseCompressionProps.class)
+@ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_RESPONSE_COMPRESSION, havingValue = ActivateStatus.ENABLED_VALUE)
+public class ResponseCompressionAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressionAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(ResponseCompressionFilter.class)
+    public ResponseCompressionFilter responseCompressionFilter(ResponseCompressionProps compressionProps) {
+        log.debug("[RESPONSE_COMPRESSION_AUTO_CONFIG] - Compress responses larger than {} bytes",
+                compressionProps.getMinResponseSize());
+        List<MimeType> mimeTypes = compressionProps.getMimeTypes().stream().map(MimeTypeUtils::parseMimeType).toList();
+        DeflaterPool deflaterPool = new DeflaterPool(compressionProps.getLevel(), compressionProps.getPoolSize());
+        CompressedResponseCache cache = null;
+
+        if (ActivateStatus.ENABLED.equals(compressionProps.getPrecompressedCache())) {
+            log.debug("[RESPONSE_COMPRESSION_AUTO_CONFIG] - Cache compressed bodies of responses with a strong ETag");
+            cache = new CompressedResponseCache(
+                compressionProps.getCacheMaximumWeight(),
+                compressionProps.getCacheMaximumBodySize()
+            );
+        }
+
+        return new ResponseCompressionFilter(compressionProps.getMinResponseSize(), mimeTypes, deflaterPool, cache);
+    }
+}
@@ -1,14 +1,27 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.interceptor.BaseResponseDTOHttpMessageConverter;
 import com.dct.config.interceptor.BaseResponseFilter;
 import com.dct.config.interceptor.DefaultBaseResponseFilter;
+import com.dct.model.autoconfig.DataConverterAutoConfiguration;
 import com.dct.model.common.MessageTranslationUtils;
+import com.dct.model.constants.ActivateStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @AutoConfiguration
 public class ResponseTranslationAutoConfiguration {
@@ -20,4 +33,25 @@ public class ResponseTranslationAutoConfiguration {
         log.debug("[RESPONSE_FILTER_AUTO_CONFIG] - Use default base response filter");
         return new DefaultBaseResponseFilter(messageTranslationUtils);
     }
+
+    @Configuration
+    @ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_RESPONSE_CONVERTER, havingValue = ActivateStatus.ENABLED_VALUE)
+    static class ResponseConverterConfiguration implements WebMvcConfigurer {
+        private final BaseResponseDTOHttpMessageConverter responseConverter;
+
+        ResponseConverterConfiguration(ObjectProvider<ObjectMapper> objectMapper,
+                                       MessageTranslationUtils messageTranslationUtils) {
+            this.responseConverter = new BaseResponseDTOHttpMessageConverter(
+                objectMapper.getIfAvailable(DataConverterAutoConfiguration::buildObjectMapper),
+                messageTranslationUtils
+            );
+        }
+
+        @Override
+        public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+            log.debug("[RESPONSE_FILTER_AUTO_CONFIG] - Write BaseResponseDTO with the streaming response converter");
+            // Must precede the Jackson converter, which also supports BaseResponseDTO
+            converters.add(0, responseConverter);
+        }
+    }
 }
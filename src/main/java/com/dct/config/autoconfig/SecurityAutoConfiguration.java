@@ -1,7 +1,9 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.properties.PasswordEncoderProps;
 import com.dct.config.security.handler.DefaultBaseAccessDeniedHandler;
 import com.dct.config.security.handler.DefaultBaseAuthenticationEntryPoint;
+import com.dct.config.security.password.OffloadingPasswordEncoder;
 import com.dct.config.exception.BaseExceptionHandler;
 import com.dct.model.common.MessageTranslationUtils;
 import com.dct.model.config.properties.CorsProps;
@@ -9,8 +11,12 @@ import com.dct.model.config.properties.SecurityProps;
 
 import com.dct.model.constants.ActivateStatus;
 import com.dct.model.constants.BasePropertiesConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -22,9 +28,11 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -36,19 +44,25 @@ import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 @AutoConfiguration
-@EnableConfigurationProperties({SecurityProps.class, CorsProps.class})
+@EnableConfigurationProperties({SecurityProps.class, CorsProps.class, PasswordEncoderProps.class})
 public class SecurityAutoConfiguration {
     private static final Logger log = LoggerFactory.getLogger(SecurityAutoConfiguration.class);
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
     private final SecurityProps securityProps;
     private final CorsProps corsProps;
+    private final PasswordEncoderProps passwordEncoderProps;
 
-    public SecurityAutoConfiguration(SecurityProps securityProps, CorsProps corsProps) {
+    public SecurityAutoConfiguration(SecurityProps securityProps,
+                                     CorsProps corsProps,
+                                     PasswordEncoderProps passwordEncoderProps) {
         this.securityProps = securityProps;
         this.corsProps = corsProps;
+        this.passwordEncoderProps = passwordEncoderProps;
     }
 
     @Bean
@@ -72,12 +86,42 @@ public class SecurityAutoConfiguration {
         return new MvcRequestMatcher.Builder(introspector);
     }
 
+    /**
+     * BCrypt password encoder using the configured cost factor <p>
+     * With `upgrade-encoding` enabled, hashes are stored with their algorithm id (e.g. {bcrypt})
+     * and hashes without id are still matched with BCrypt, so changing the cost or the algorithm
+     * re-hashes passwords on the next successful login instead of requiring a migration <p>
+     * With `offload` enabled, hashing runs on a dedicated bounded executor
+     */
     @Bean
     @ConditionalOnMissingBean(PasswordEncoder.class)
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry) {
         int costFactor = Optional.ofNullable(securityProps).orElse(new SecurityProps()).getPasswordEncryptFactor();
         log.debug("[PASSWORD_ENCODER_AUTO_CONFIG] - Use default password encoder with encrypt factor: {}", costFactor);
-        return new BCryptPasswordEncoder(costFactor);
+        PasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(costFactor);
+        PasswordEncoder passwordEncoder = bCryptPasswordEncoder;
+
+        if (ActivateStatus.ENABLED.equals(passwordEncoderProps.getUpgradeEncoding())) {
+            log.debug("[PASSWORD_ENCODER_AUTO_CONFIG] - Upgrade password encoding on login");
+            DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ENCODING_ID,
+                Map.of(BCRYPT_ENCODING_ID, bCryptPasswordEncoder)
+            );
+            delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+            passwordEncoder = delegatingPasswordEncoder;
+        }
+
+        if (ActivateStatus.ENABLED.equals(passwordEncoderProps.getOffload())) {
+            return new OffloadingPasswordEncoder(
+                passwordEncoder,
+                passwordEncoderProps.getThreads(),
+                passwordEncoderProps.getQueueCapacity(),
+                passwordEncoderProps.getTimeout(),
+                meterRegistry.getIfAvailable()
+            );
+        }
+
+        return passwordEncoder;
     }
 
     /**
@@ -90,11 +134,14 @@ public class SecurityAutoConfiguration {
     @ConditionalOnBean(UserDetailsService.class)
     @ConditionalOnMissingBean(AuthenticationProvider.class)
     public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
-                                                         PasswordEncoder passwordEncoder) {
+                                                         PasswordEncoder passwordEncoder,
+                                                         ObjectProvider<UserDetailsPasswordService> passwordService) {
         log.debug("[DAO_AUTHENTICATION_PROVIDER_AUTO_CONFIG] - Use default authentication provider");
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
+        // Stores re-hashed passwords when the password encoder requests an upgrade of the encoding
+        passwordService.ifAvailable(provider::setUserDetailsPasswordService);
         provider.setHideUserNotFoundExceptions(false);
         return provider;
     }
@@ -0,0 +1,35 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.properties.SecurityContextProps;
+import com.dct.config.security.context.SecurityContextTaskDecorator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * The strategy of the SecurityContextHolder itself is applied at startup by
+ * {@link com.dct.config.security.context.SecurityContextPropagationPostProcessor} <p>
+ * This configuration hands the security context over to the tasks of the application task executor (used by @Async)
+ *
+ * @author thoaidc
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SecurityContextProps.class)
+public class SecurityContextAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(SecurityContextAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TaskDecorator securityContextTaskDecorator(SecurityContextProps securityContextProps) {
+        log.debug(
+            "[SECURITY_CONTEXT_AUTO_CONFIG] - Propagate security context to async tasks, mode: {}",
+            securityContextProps.getPropagation()
+        );
+        return new SecurityContextTaskDecorator();
+    }
+}
@@ -1,5 +1,8 @@
 package com.dct.config.autoconfig;
 
+import com.dct.config.compression.ResponseCompressionFilter;
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.properties.JwtTokenCacheProps;
 import com.dct.config.security.config.BaseSecurityFilterChainConfig;
 import com.dct.config.security.config.DefaultBaseSecurityFilterChainConfig;
 import com.dct.config.security.filter.BaseAuthenticationFilter;
@@ -9,20 +12,28 @@ import com.dct.config.security.filter.BaseJwtProvider;
 import com.dct.config.security.filter.DefaultJwtProvider;
 import com.dct.config.security.handler.BaseOAuth2AuthenticationFailureHandler;
 import com.dct.config.security.handler.BaseOAuth2AuthenticationSuccessHandler;
+import com.dct.config.security.identity.IdentityHeaderCodec;
+import com.dct.config.security.metrics.SecurityFilterTimingRecorder;
+import com.dct.config.security.revocation.TokenRevocationRegistry;
+import com.dct.config.security.token.AccessTokenCache;
 import com.dct.model.config.properties.SecurityProps;
 import com.dct.model.config.properties.SecurityProps.OAuth2Config;
 import com.dct.model.constants.ActivateStatus;
 import com.dct.model.constants.AuthenticationType;
 import com.dct.model.constants.BasePropertiesConstants;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -34,6 +45,7 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.Objects;
 import java.util.Optional;
 
 @AutoConfiguration
@@ -44,6 +56,7 @@ import java.util.Optional;
     SecurityProps.class
 })
 @EnableWebSecurity
+@EnableConfigurationProperties(JwtTokenCacheProps.class)
 public class SecurityFilterChainAutoConfiguration {
     private static final Logger log = LoggerFactory.getLogger(SecurityFilterChainAutoConfiguration.class);
     private final SecurityProps securityProps;
@@ -63,15 +76,26 @@ public class SecurityFilterChainAutoConfiguration {
         return new DefaultJwtProvider(securityConfig);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_JWT_TOKEN_CACHE, havingValue = ActivateStatus.ENABLED_VALUE)
+    @ConditionalOnMissingBean(AccessTokenCache.class)
+    public AccessTokenCache defaultAccessTokenCache(JwtTokenCacheProps jwtTokenCacheProps) {
+        log.debug("[ACCESS_TOKEN_CACHE_AUTO_CONFIG] - Use verified access token cache");
+        return new AccessTokenCache(jwtTokenCacheProps.getMaximumSize());
+    }
+
     @Bean
     @ConditionalOnProperty(
         name = BasePropertiesConstants.AUTHENTICATION_TYPE,
         havingValue = AuthenticationType.JWT_VERIFY_VALUE
     )
     @ConditionalOnMissingBean(BaseAuthenticationFilter.class)
-    public BaseAuthenticationFilter defaultJwtFilter(SecurityProps securityProps, BaseJwtProvider jwtProvider) {
+    public BaseAuthenticationFilter defaultJwtFilter(SecurityProps securityProps,
+                                                     BaseJwtProvider jwtProvider,
+                                                     @Autowired(required = false) AccessTokenCache accessTokenCache,
+                                                     @Autowired(required = false) TokenRevocationRegistry revocationRegistry) {
         log.debug("[AUTHENTICATION_FILTER_AUTO_CONFIG] - Use `BaseJwtFilter` as default authenticate filter");
-        return new BaseJwtFilter(securityProps, jwtProvider);
+        return new BaseJwtFilter(securityProps, jwtProvider, accessTokenCache, revocationRegistry);
     }
 
     @Bean
@@ -80,9 +104,20 @@ public class SecurityFilterChainAutoConfiguration {
         havingValue = AuthenticationType.HEADER_FORWARDED_VALUE
     )
     @ConditionalOnMissingBean(BaseAuthenticationFilter.class)
-    public BaseAuthenticationFilter defaultHeaderSecurityFilter(SecurityProps securityProps) {
+    public BaseAuthenticationFilter defaultHeaderSecurityFilter(
+        SecurityProps securityProps,
+        @Autowired(required = false) IdentityHeaderCodec identityHeaderCodec
+    ) {
         log.debug("[AUTHENTICATION_FILTER_AUTO_CONFIG] - Use `BaseHeaderSecurityFilter` as default authenticate filter");
-        return new BaseHeaderSecurityFilter(securityProps);
+        return new BaseHeaderSecurityFilter(securityProps, identityHeaderCodec);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_SECURITY_FILTER_METRICS, havingValue = ActivateStatus.ENABLED_VALUE)
+    @ConditionalOnMissingBean(SecurityFilterTimingRecorder.class)
+    public SecurityFilterTimingRecorder securityFilterTimingRecorder(ObjectProvider<MeterRegistry> meterRegistry) {
+        log.debug("[SECURITY_FILTER_METRICS_AUTO_CONFIG] - Use security filter timing recorder");
+        return new SecurityFilterTimingRecorder(meterRegistry.getIfAvailable());
     }
 
     @Bean
@@ -114,10 +149,14 @@ public class SecurityFilterChainAutoConfiguration {
     @Primary
     public SecurityFilterChain securityFilterChain(BaseSecurityFilterChainConfig securityFilterChainConfig,
                                                    MvcRequestMatcher.Builder mvc,
-                                                   HttpSecurity http) throws Exception {
+                                                   HttpSecurity http,
+                                                   @Autowired(required = false)
+                                                   SecurityFilterTimingRecorder timingRecorder,
+                                                   @Autowired(required = false)
+                                                   ResponseCompressionFilter compressionFilter) throws Exception {
         log.debug("[SECURITY_FILTER_CHAIN_AUTO_CONFIG] - Using bean: `securityFilterChain`");
         securityFilterChainConfig.cors(http);
-        securityFilterChainConfig.addFilters(http);
+        securityFilterChainConfig.addFilters(http, compressionFilter);
         securityFilterChainConfig.exceptionHandlers(http);
         securityFilterChainConfig.headersSecurity(http);
         securityFilterChainConfig.sessionManagementStrategy(http);
@@ -130,6 +169,12 @@ public class SecurityFilterChainAutoConfiguration {
             securityFilterChainConfig.oauth2(http);
         }
 
-        return http.build();
+        SecurityFilterChain securityFilterChain = http.build();
+
+        if (Objects.nonNull(timingRecorder)) {
+            return securityFilterChainConfig.instrumentFilters(securityFilterChain, timingRecorder);
+        }
+
+        return securityFilterChain;
     }
 }
@@ -0,0 +1,37 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.properties.StreamingResponseProps;
+import com.dct.config.streaming.StreamingResponseWriter;
+import com.dct.model.autoconfig.DataConverterAutoConfiguration;
+import com.dct.model.common.MessageTranslationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@AutoConfiguration
+@ConditionalOnClass(StreamingResponseBody.class)
+@EnableConfigurationProperties(StreamingResponseProps.class)
+public class StreamingResponseAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(StreamingResponseAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(StreamingResponseWriter.class)
+    public StreamingResponseWriter streamingResponseWriter(ObjectProvider<ObjectMapper> objectMapper,
+                                                           MessageTranslationUtils messageTranslationUtils,
+                                                           StreamingResponseProps streamingResponseProps) {
+        log.debug("[STREAMING_RESPONSE_AUTO_CONFIG] - Use streaming response writer");
+        return new StreamingResponseWriter(
+            objectMapper.getIfAvailable(DataConverterAutoConfiguration::buildObjectMapper),
+            messageTranslationUtils,
+            streamingResponseProps.getFlushSize()
+        );
+    }
+}
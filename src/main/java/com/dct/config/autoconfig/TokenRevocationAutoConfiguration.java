@@ -0,0 +1,69 @@
+package com.dct.config.autoconfig;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.config.properties.TokenRevocationProps;
+import com.dct.config.security.revocation.RedisTokenRevocationSync;
+import com.dct.config.security.revocation.TokenRevocationRegistry;
+import com.dct.model.constants.ActivateStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@AutoConfiguration(after = RedisAutoConfiguration.class)
+@EnableConfigurationProperties(TokenRevocationProps.class)
+@ConditionalOnProperty(name = StarterPropertiesConstants.ENABLED_JWT_TOKEN_REVOCATION, havingValue = ActivateStatus.ENABLED_VALUE)
+public class TokenRevocationAutoConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationRegistry.class)
+    public TokenRevocationRegistry defaultTokenRevocationRegistry(TokenRevocationProps revocationProps) {
+        log.debug("[TOKEN_REVOCATION_AUTO_CONFIG] - Use local token revocation registry");
+        return new TokenRevocationRegistry(
+            revocationProps.getExpectedRevokedTokens(),
+            revocationProps.getFalsePositiveProbability(),
+            revocationProps.getDefaultTimeToLive()
+        );
+    }
+
+    @Configuration
+    @ConditionalOnClass(RedisMessageListenerContainer.class)
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    static class RedisTokenRevocationConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(RedisTokenRevocationSync.class)
+        public RedisTokenRevocationSync redisTokenRevocationSync(TokenRevocationRegistry registry,
+                                                                 RedisTemplate<String, String> redisTemplate,
+                                                                 TokenRevocationProps revocationProps) {
+            log.debug("[TOKEN_REVOCATION_AUTO_CONFIG] - Share revoked tokens through Redis");
+            return new RedisTokenRevocationSync(
+                registry,
+                redisTemplate,
+                revocationProps.getRedisKeyPrefix(),
+                revocationProps.getRedisChannel()
+            );
+        }
+
+        @Bean
+        public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                              RedisTokenRevocationSync revocationSync) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(revocationSync, new ChannelTopic(revocationSync.getChannel()));
+            return container;
+        }
+    }
+}
@@ -1,40 +1,23 @@
 package com.dct.config.common;
 
-import com.dct.model.annotation.JwtIgnore;
+import com.dct.config.exception.StacklessAuthenticationException;
+import com.dct.config.security.token.JwtClaimExtractor;
 import com.dct.model.autoconfig.DataConverterAutoConfiguration;
-import com.dct.model.common.JsonUtils;
 import com.dct.model.constants.BaseExceptionConstants;
 import com.dct.model.constants.BaseHttpStatusConstants;
 import com.dct.model.constants.BaseRoleConstants;
 import com.dct.model.dto.auth.BaseUserDTO;
 import com.dct.model.dto.auth.JwtDTO;
-import com.dct.model.dto.response.BaseResponseDTO;
-import com.dct.model.exception.BaseAuthenticationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.StringUtils;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 public class Common {
@@ -43,16 +26,7 @@ public class Common {
     private static final String ENTITY_NAME = "com.dct.config.common.Common";
 
     public static void handleUnauthorizedError(HttpServletResponse response, String message) throws IOException {
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE); // Convert response body to JSON
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.setStatus(BaseHttpStatusConstants.UNAUTHORIZED);
-        BaseResponseDTO responseDTO = BaseResponseDTO.builder()
-                .code(BaseHttpStatusConstants.UNAUTHORIZED)
-                .success(Boolean.FALSE)
-                .message(message)
-                .build();
-        response.getWriter().write(JsonUtils.toJsonString(responseDTO));
-        response.flushBuffer();
+        ErrorResponseWriter.write(response, BaseHttpStatusConstants.UNAUTHORIZED, message);
     }
 
     public static BaseUserDTO checkShopAuthorities(Integer shopId) {
@@ -63,7 +37,7 @@ public class Common {
         }
 
         if (Objects.nonNull(shopId) && !Objects.equals(shopId, userDTO.getShopId())) {
-            throw new BaseAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
+            throw new StacklessAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
         }
 
         return userDTO;
@@ -77,35 +51,20 @@ public class Common {
         }
 
         if (Objects.nonNull(userId) && !Objects.equals(userId, userDTO.getId())) {
-            throw new BaseAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
+            throw new StacklessAuthenticationException(ENTITY_NAME, BaseExceptionConstants.FORBIDDEN);
         }
 
         return userDTO;
     }
 
     public static BaseUserDTO getUserWithAuthorities() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (Objects.nonNull(authentication) && authentication.isAuthenticated()) {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            HttpServletRequest request = Objects.nonNull(attributes) ? attributes.getRequest() : null;
-            String jwt = Objects.nonNull(request) ? request.getHeader(HttpHeaders.AUTHORIZATION) : null;
-            JwtDTO jwtDTO = Optional.ofNullable(getInfoJwt(jwt)).orElseGet(JwtDTO::new);
-            String userAuthoritiesStr = Optional.ofNullable(jwtDTO.getAuthorities()).orElse("");
-            Set<String> authorities = Arrays.stream(userAuthoritiesStr.split(","))
-                    .filter(StringUtils::hasText)
-                    .collect(Collectors.toSet());
-
-            return BaseUserDTO.userBuilder()
-                    .withId(jwtDTO.getUserId())
-                    .withShopId(jwtDTO.getShopId())
-                    .withShopName(jwtDTO.getShopName())
-                    .withUsername(jwtDTO.getUsername())
-                    .withAuthorities(authorities)
-                    .build();
+        BaseUserDTO userDTO = RequestPrincipalResolver.getCurrentUser();
+
+        if (Objects.nonNull(userDTO)) {
+            return userDTO;
         }
 
-        throw new BaseAuthenticationException(ENTITY_NAME, BaseExceptionConstants.BAD_CREDENTIALS);
+        throw new StacklessAuthenticationException(ENTITY_NAME, BaseExceptionConstants.BAD_CREDENTIALS);
     }
 
     public static JwtDTO getInfoJwt(String jwt) {
@@ -122,28 +81,6 @@ public class Common {
     }
 
     public static Map<String, Object> extractClaims(Object obj) {
-        Map<String, Object> claims = new HashMap<>();
-        Class<?> clazz = obj.getClass();
-
-        while (clazz != null) {
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true);
-
-                if (field.isAnnotationPresent(JwtIgnore.class))
-                    continue;
-
-                try {
-                    Object value = field.get(obj);
-
-                    if (value != null) {
-                        claims.put(field.getName(), value);
-                    }
-                } catch (IllegalAccessException ignored) {}
-            }
-
-            clazz = clazz.getSuperclass();
-        }
-
-        return claims;
+        return JwtClaimExtractor.forClass(obj.getClass()).extract(obj);
     }
 }
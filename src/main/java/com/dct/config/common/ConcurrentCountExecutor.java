@@ -0,0 +1,171 @@
+package com.dct.config.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the count queries of paged searches while their data query runs on the request thread,
+ * see {@link SqlUtils.QueryBuilder#concurrentCount} <p>
+ * Each count runs in a read-only transaction of its own {@link EntityManager}, on a separate connection.
+ * At most `threads` counts run at the same time, which also bounds the extra connections taken from the pool,
+ * and at most `queueCapacity` wait for a thread. A rejected count runs on the request thread after the data query <p>
+ * A count which does not complete within `timeout` milliseconds of its submission is cancelled at the database
+ * through the query timeout. The search is then returned without waiting for another count, a full page
+ * reports one row more than the rows read so far so that the next page is still requested
+ *
+ * @author thoaidc
+ */
+public class ConcurrentCountExecutor implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentCountExecutor.class);
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+
+    /**
+     * @param entityManagerFactory creates the entity managers of the count queries
+     * @param threads maximum number of concurrent count queries
+     * @param queueCapacity maximum number of count queries waiting for a thread
+     * @param timeout maximum time in milliseconds a search waits for its count
+     */
+    public ConcurrentCountExecutor(EntityManagerFactory entityManagerFactory, int threads, int queueCapacity, long timeout) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+            new CountThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.debug("[CONCURRENT_COUNT] - Run count queries on {} threads, queue capacity: {}", threads, queueCapacity);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the pending count, or null if the executor is saturated
+     */
+    PendingCount submit(String countQuerySql, Map<String, Object> params) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        try {
+            return new PendingCount(executor.submit(() -> count(countQuerySql, params)), deadline);
+        } catch (RejectedExecutionException e) {
+            SqlUtils.recordCount("rejected");
+            return null;
+        }
+    }
+
+    private long count(String countQuerySql, Map<String, Object> params) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+
+        try {
+            transaction.begin();
+            Session session = entityManager.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            // The pool restores the read-only flag when the connection is returned
+            session.doWork(connection -> connection.setReadOnly(true));
+
+            Query countQuery = entityManager.createNativeQuery(countQuerySql);
+            countQuery.setHint(READ_ONLY_HINT, true);
+            countQuery.setHint(QUERY_TIMEOUT_HINT, timeout);
+            SqlUtils.setParams(countQuery, params);
+            Object totalRecords = countQuery.getSingleResult();
+            return Objects.nonNull(totalRecords) ? ((Number) totalRecords).longValue() : 0;
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
+            entityManager.close();
+        }
+    }
+
+    /**
+     * A count query running concurrently with the data query of its search
+     */
+    static final class PendingCount {
+        private final Future<Long> future;
+        private final long deadline;
+
+        private PendingCount(Future<Long> future, long deadline) {
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Waits for the count until the deadline
+         * @return the total, or -1 if the count failed or timed out, in which case the total of the page is unknown
+         */
+        long get() {
+            try {
+                long total = future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                SqlUtils.recordCount("concurrent");
+                return total;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                SqlUtils.recordCount("timeout");
+                log.warn("[CONCURRENT_COUNT] - Count query did not complete before its deadline");
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                log.warn("[CONCURRENT_COUNT] - Interrupted while waiting for count query");
+            } catch (ExecutionException e) {
+                SqlUtils.recordCount("failed");
+                log.error("[CONCURRENT_COUNT] - Could not execute count query: {}", e.getCause().getMessage());
+            }
+
+            return -1L;
+        }
+
+        /**
+         * Cancels a count which is no longer needed, such as when the data query failed or the page tells its total
+         */
+        void cancel() {
+            future.cancel(true);
+        }
+    }
+
+    private static final class CountThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "query-count-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dct.config.common;
+
+/**
+ * How {@link SqlUtils.QueryBuilder#getResultsWithPaging} computes the total number of rows of a page <p>
+ * Count queries are counted by the {@code dct.query.count} Micrometer counter of the global registry,
+ * tagged with their outcome: executed, elided, cached or window, and for concurrent counts
+ * concurrent, timeout, rejected, failed or discarded when the page tells its total after its count was submitted
+ *
+ * @author thoaidc
+ */
+public enum CountStrategy {
+
+    /**
+     * Executes the count query after every data query
+     */
+    ALWAYS,
+
+    /**
+     * Skips the count query when the total is known from the page itself:
+     * the first page, or any non-empty page, is smaller than the page size
+     */
+    ELIDE,
+
+    /**
+     * Like {@link #ELIDE}, then reuses the count of the same count SQL and parameters during a short time to live.
+     * The total may be stale by up to the time to live, which suits search screens but not exact reporting
+     */
+    CACHED,
+
+    /**
+     * Reads the total from a {@code COUNT(*) OVER()} column selected by the data query, in a single round trip <p>
+     * The query selects {@link SqlUtils#WINDOW_COUNT} and its result set mapping declares the
+     * {@link SqlUtils#TOTAL_COUNT_COLUMN} column result after the mapped row, so each row is read as
+     * {@code Object[] {row, total}}. The count query is only executed for an empty page after the first one
+     */
+    WINDOW
+}
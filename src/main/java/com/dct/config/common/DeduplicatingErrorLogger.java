@@ -0,0 +1,149 @@
+package com.dct.config.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Logs repeated errors once in full, then as periodic summaries <p>
+ * Errors are fingerprinted by logger, message template, exception type and the top frames of its stack trace.
+ * The first occurrence of a fingerprint is logged with its stack trace, the following ones are only counted
+ * and a single line "N more occurrences" is logged per summary interval <p>
+ * A fingerprint without occurrence during an idle period is forgotten after logging its remaining count,
+ * its next occurrence is logged in full again. The number of tracked fingerprints is bounded
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public final class DeduplicatingErrorLogger {
+    private static final String SUMMARY_TEMPLATE = "[DEDUPLICATED_ERROR] - {} more occurrences of: {} ({}: {})";
+    private static volatile Settings settings = new Settings(Duration.ofSeconds(10), 5, 1000);
+    private static volatile Cache<Fingerprint, Occurrences> occurrences = buildCache(settings);
+
+    private DeduplicatingErrorLogger() {}
+
+    /**
+     * @param summaryInterval minimum time between two summaries of the same fingerprint,
+     *                        a fingerprint is forgotten after ten intervals without occurrence
+     * @param stackFrames number of top stack frames used to fingerprint an exception
+     * @param maximumFingerprints maximum number of tracked fingerprints
+     */
+    public static void configure(Duration summaryInterval, int stackFrames, long maximumFingerprints) {
+        Settings newSettings = new Settings(summaryInterval, stackFrames, maximumFingerprints);
+        Cache<Fingerprint, Occurrences> previous = occurrences;
+        occurrences = buildCache(newSettings);
+        settings = newSettings;
+        previous.invalidateAll();
+    }
+
+    /**
+     * Logs an error like {@link Logger#error(String, Object...)}, deduplicated when the last argument is a throwable
+     * @return true if the error has been logged in full, false if it has only been counted
+     */
+    public static boolean error(Logger log, String template, Object... args) {
+        Throwable error = args.length > 0 && args[args.length - 1] instanceof Throwable throwable ? throwable : null;
+
+        if (Objects.isNull(error)) {
+            log.error(template, args);
+            return true;
+        }
+
+        Settings current = settings;
+        Fingerprint fingerprint = Fingerprint.of(log.getName(), template, error, current.stackFrames());
+        Occurrences occurrence = occurrences.get(fingerprint, key -> new Occurrences(log, template, args));
+
+        if (occurrence.total.incrementAndGet() == 1) {
+            log.error(template, args);
+            return true;
+        }
+
+        occurrence.suppressed.incrementAndGet();
+        long now = System.nanoTime();
+        long lastSummary = occurrence.lastSummaryNanos.get();
+
+        if (now - lastSummary >= current.summaryInterval().toNanos()
+                && occurrence.lastSummaryNanos.compareAndSet(lastSummary, now)) {
+            logSummary(fingerprint, occurrence);
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the total number of occurrences per tracked fingerprint
+     */
+    public static Map<String, Long> getOccurrences() {
+        return occurrences.asMap().entrySet().stream().collect(Collectors.toMap(
+            entry -> entry.getKey().toString(),
+            entry -> entry.getValue().total.get()
+        ));
+    }
+
+    private static Cache<Fingerprint, Occurrences> buildCache(Settings settings) {
+        return Caffeine.newBuilder()
+                .maximumSize(settings.maximumFingerprints())
+                .expireAfterAccess(settings.summaryInterval().multipliedBy(10))
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((Fingerprint fingerprint, Occurrences occurrence, RemovalCause cause) -> {
+                    if (Objects.nonNull(fingerprint) && Objects.nonNull(occurrence)) {
+                        logSummary(fingerprint, occurrence);
+                    }
+                })
+                .build();
+    }
+
+    private static void logSummary(Fingerprint fingerprint, Occurrences occurrence) {
+        long suppressed = occurrence.suppressed.getAndSet(0);
+
+        if (suppressed > 0) {
+            occurrence.log.error(
+                SUMMARY_TEMPLATE,
+                suppressed,
+                occurrence.message,
+                fingerprint.exceptionType().getName(),
+                occurrence.errorMessage
+            );
+        }
+    }
+
+    private record Settings(Duration summaryInterval, int stackFrames, long maximumFingerprints) {}
+
+    private record Fingerprint(String logger, String template, Class<?> exceptionType, List<StackTraceElement> frames) {
+
+        private static Fingerprint of(String logger, String template, Throwable error, int stackFrames) {
+            StackTraceElement[] stackTrace = error.getStackTrace();
+            List<StackTraceElement> frames = Arrays.asList(
+                Arrays.copyOf(stackTrace, Math.min(stackFrames, stackTrace.length))
+            );
+            return new Fingerprint(logger, template, error.getClass(), frames);
+        }
+    }
+
+    private static final class Occurrences {
+        private final Logger log;
+        // Message and exception message of the first occurrence, logged with the summaries
+        private final String message;
+        private final String errorMessage;
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong lastSummaryNanos = new AtomicLong(System.nanoTime());
+
+        private Occurrences(Logger log, String template, Object[] args) {
+            this.log = log;
+            this.message = MessageFormatter.arrayFormat(template, args).getMessage();
+            this.errorMessage = ((Throwable) args[args.length - 1]).getMessage();
+        }
+    }
+}
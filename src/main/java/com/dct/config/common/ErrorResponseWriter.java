@@ -0,0 +1,86 @@
+package com.dct.config.common;
+
+import com.dct.model.common.JsonUtils;
+import com.dct.model.common.MessageTranslationUtils;
+import com.dct.model.dto.response.BaseResponseDTO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Writes error responses of security handlers and filters (401, 403,...) from pre-serialized bodies <p>
+ * The JSON body of each (status, message, locale) is rendered once with {@link JsonUtils} and cached as UTF-8 bytes,
+ * then written directly to the response output stream <p>
+ * The cache is cleared when the message bundles are reloaded, see {@link com.dct.config.i18n.MessagesReloadedEvent}
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class ErrorResponseWriter {
+    private static final long MAX_CACHED_BODIES = 1_000;
+    private static final Cache<ErrorBodyKey, byte[]> BODIES = Caffeine.newBuilder().maximumSize(MAX_CACHED_BODIES).build();
+
+    private ErrorResponseWriter() {}
+
+    /**
+     * Writes an error response whose message is the translation of the error key in the current locale
+     */
+    public static void writeTranslated(HttpServletResponse response,
+                                       int status,
+                                       String errorKey,
+                                       MessageTranslationUtils messageTranslationUtils) throws IOException {
+        Locale locale = LocaleContextHolder.getLocale();
+        byte[] body = BODIES.get(
+            new ErrorBodyKey(status, errorKey, locale),
+            key -> render(status, messageTranslationUtils.getMessageI18n(errorKey))
+        );
+        write(response, status, body);
+    }
+
+    /**
+     * Writes an error response with a message that is already resolved
+     */
+    public static void write(HttpServletResponse response, int status, String message) throws IOException {
+        byte[] body = BODIES.get(new ErrorBodyKey(status, message, null), key -> render(status, message));
+        write(response, status, body);
+    }
+
+    public static void clear() {
+        BODIES.invalidateAll();
+    }
+
+    private static byte[] render(int status, String message) {
+        BaseResponseDTO responseDTO = BaseResponseDTO.builder()
+                .code(status)
+                .success(Boolean.FALSE)
+                .message(message)
+                .build();
+
+        return JsonUtils.toJsonString(responseDTO).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void write(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE); // Convert response body to JSON
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        response.flushBuffer();
+    }
+
+    /**
+     * @param locale locale of the translated message, null if the message was not translated by this writer
+     */
+    private record ErrorBodyKey(int status, String message, Locale locale) {}
+}
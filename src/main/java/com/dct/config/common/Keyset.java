@@ -0,0 +1,209 @@
+package com.dct.config.common;
+
+import com.dct.config.exception.StacklessBadRequestAlertException;
+import com.dct.model.constants.BaseExceptionConstants;
+import com.dct.model.exception.BaseIllegalArgumentException;
+
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination of a native query, used by {@link SqlUtils.QueryBuilder#getResultsWithKeyset} <p>
+ * Instead of skipping the rows of the previous pages, the next page starts after the sort key of the last row
+ * of the previous page, so every page costs the same as the first one when the sort columns are indexed <p>
+ * The sort key is a non-null column with the id as tie-breaker, or the id alone.
+ * The position of the last row is returned to the client as an opaque continuation token, for example:
+ * <pre>
+ * Keyset&lt;AuditLogDTO&gt; keyset = Keyset.by("a.created_date", AuditLogDTO::getCreatedDate, "a.id", AuditLogDTO::getId)
+ *         .descending()
+ *         .size(50)
+ *         .after(request.getContinuationToken());
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public final class Keyset<T> {
+    private static final String ENTITY_NAME = "com.dct.config.common.Keyset";
+    private static final String LAST_KEY_PARAM = "keysetLastKey";
+    private static final String LAST_ID_PARAM = "keysetLastId";
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final int DEFAULT_SIZE = 20;
+    private final String column;
+    private final Function<T, ?> keyExtractor;
+    private final String idColumn;
+    private final Function<T, ?> idExtractor;
+    private boolean descending;
+    private int size = DEFAULT_SIZE;
+    private String continuationToken;
+
+    private Keyset(String column, Function<T, ?> keyExtractor, String idColumn, Function<T, ?> idExtractor) {
+        this.column = column;
+        this.keyExtractor = keyExtractor;
+        this.idColumn = idColumn;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Orders the rows by their id only
+     */
+    public static <T> Keyset<T> byId(String idColumn, Function<T, ?> idExtractor) {
+        return new Keyset<>(null, null, idColumn, idExtractor);
+    }
+
+    /**
+     * Orders the rows by a sort column, then by their id for rows with the same sort value
+     */
+    public static <T> Keyset<T> by(String column,
+                                   Function<T, ?> keyExtractor,
+                                   String idColumn,
+                                   Function<T, ?> idExtractor) {
+        return new Keyset<>(column, keyExtractor, idColumn, idExtractor);
+    }
+
+    public Keyset<T> descending() {
+        this.descending = true;
+        return this;
+    }
+
+    public Keyset<T> size(int size) {
+        if (size <= 0) {
+            throw new BaseIllegalArgumentException(ENTITY_NAME, "Keyset page size must be greater than 0");
+        }
+
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * @param continuationToken the token of the previous page, null or empty for the first page
+     */
+    public Keyset<T> after(String continuationToken) {
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Appends the seek predicate of the continuation token and the ORDER BY clause of the keyset to the query
+     * @param params receives the sort key of the last row of the previous page
+     */
+    void appendTo(StringBuilder sql, Map<String, Object> params) {
+        String operator = descending ? SqlUtils.LESS_THAN : SqlUtils.GREATER_THAN;
+        String direction = descending ? SqlUtils.DESC : SqlUtils.EMPTY;
+
+        if (StringUtils.hasText(continuationToken)) {
+            Object[] lastKey = decode(continuationToken);
+            params.put(LAST_ID_PARAM, lastKey[1]);
+
+            if (Objects.isNull(column)) {
+                sql.append(SqlUtils.AND).append(idColumn).append(operator).append(LAST_ID_PARAM);
+            } else {
+                // Expanded form of (column, id) > (:lastKey, :lastId), usable by index range scans on all databases
+                params.put(LAST_KEY_PARAM, lastKey[0]);
+                sql.append(SqlUtils.AND).append(SqlUtils.OPEN_PAREN)
+                    .append(column).append(operator).append(LAST_KEY_PARAM).append(SqlUtils.OR)
+                    .append(SqlUtils.OPEN_PAREN).append(column).append(SqlUtils.EQUALS).append(LAST_KEY_PARAM)
+                    .append(SqlUtils.AND).append(idColumn).append(operator).append(LAST_ID_PARAM)
+                    .append(SqlUtils.CLOSE_PAREN).append(SqlUtils.CLOSE_PAREN);
+            }
+        }
+
+        sql.append(SqlUtils.ORDER_BY);
+
+        if (Objects.nonNull(column)) {
+            sql.append(column).append(direction).append(", ");
+        }
+
+        sql.append(idColumn).append(direction);
+    }
+
+    /**
+     * @return the continuation token of the page ending with the given row
+     */
+    String tokenOf(T lastRow) {
+        Object key = Objects.nonNull(keyExtractor) ? keyExtractor.apply(lastRow) : null;
+        Object id = idExtractor.apply(lastRow);
+
+        if (Objects.isNull(id) || (Objects.nonNull(keyExtractor) && Objects.isNull(key))) {
+            throw new BaseIllegalArgumentException(ENTITY_NAME, "Keyset columns must not contain null values");
+        }
+
+        return encodeValue(key) + TOKEN_SEPARATOR + encodeValue(id);
+    }
+
+    private static Object[] decode(String token) {
+        int separator = token.indexOf(TOKEN_SEPARATOR);
+
+        try {
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing token separator");
+            }
+
+            return new Object[] {decodeValue(token.substring(0, separator)), decodeValue(token.substring(separator + 1))};
+        } catch (RuntimeException e) {
+            throw new StacklessBadRequestAlertException(ENTITY_NAME, BaseExceptionConstants.INVALID_REQUEST_DATA);
+        }
+    }
+
+    /**
+     * Each value is encoded with its type, so it is bound to the query with the same type as the column
+     */
+    private static String encodeValue(Object value) {
+        String typedValue;
+
+        if (Objects.isNull(value)) {
+            typedValue = "N:";
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            typedValue = "L:" + value;
+        } else if (value instanceof BigDecimal number) {
+            typedValue = "B:" + number.toPlainString();
+        } else if (value instanceof String text) {
+            typedValue = "S:" + text;
+        } else if (value instanceof Instant) {
+            typedValue = "I:" + value;
+        } else if (value instanceof LocalDateTime) {
+            typedValue = "T:" + value;
+        } else if (value instanceof LocalDate) {
+            typedValue = "D:" + value;
+        } else if (value instanceof UUID) {
+            typedValue = "U:" + value;
+        } else {
+            throw new BaseIllegalArgumentException(
+                ENTITY_NAME, "Unsupported keyset value type: " + value.getClass().getName()
+            );
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(typedValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object decodeValue(String encodedValue) {
+        String typedValue = new String(Base64.getUrlDecoder().decode(encodedValue), StandardCharsets.UTF_8);
+        String value = typedValue.substring(2);
+
+        return switch (typedValue.substring(0, 2)) {
+            case "N:" -> null;
+            case "L:" -> Long.parseLong(value);
+            case "B:" -> new BigDecimal(value);
+            case "S:" -> value;
+            case "I:" -> Instant.parse(value);
+            case "T:" -> LocalDateTime.parse(value);
+            case "D:" -> LocalDate.parse(value);
+            case "U:" -> UUID.fromString(value);
+            default -> throw new IllegalArgumentException("Unknown keyset value type");
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.dct.config.common;
+
+import java.util.List;
+
+/**
+ * A page of a keyset paginated query, see {@link Keyset} <p>
+ * The total number of rows is not counted, the client requests the next page with its continuation token
+ *
+ * @param content the rows of the page
+ * @param size the requested page size
+ * @param hasNext whether more rows follow this page
+ * @param continuationToken the token of the next page, null for the last page
+ * @author thoaidc
+ */
+public record KeysetPage<T>(List<T> content, int size, boolean hasNext, String continuationToken) {}
@@ -0,0 +1,94 @@
+package com.dct.config.common;
+
+import com.dct.model.dto.auth.BaseUserDTO;
+import com.dct.model.dto.auth.JwtDTO;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the {@link BaseUserDTO} of the current authenticated user once per request <p>
+ * The authentication filters already store a {@link BaseUserDTO} as principal of the {@link Authentication},
+ * so the principal is read from the security context and memoized in the request attributes for later calls <p>
+ * Works the same way for JWT and header forwarded authentication modes.
+ * Outside a servlet request (e.g. async threads) the principal is read directly from the security context
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class RequestPrincipalResolver {
+    private static final String PRINCIPAL_ATTRIBUTE = RequestPrincipalResolver.class.getName() + ".PRINCIPAL";
+
+    /**
+     * @return the user of the current authentication, or null if the current request is not authenticated
+     */
+    public static BaseUserDTO getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (Objects.isNull(authentication) || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (Objects.isNull(attributes)) {
+            return resolve(authentication, null);
+        }
+
+        Object cached = attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        // The authentication may be replaced during the request (e.g. login), only reuse the value of the same one
+        if (cached instanceof ResolvedPrincipal principal && principal.authentication() == authentication) {
+            return principal.user();
+        }
+
+        BaseUserDTO userDTO = resolve(authentication, attributes);
+        attributes.setAttribute(
+            PRINCIPAL_ATTRIBUTE,
+            new ResolvedPrincipal(authentication, userDTO),
+            RequestAttributes.SCOPE_REQUEST
+        );
+
+        return userDTO;
+    }
+
+    private static BaseUserDTO resolve(Authentication authentication, RequestAttributes attributes) {
+        if (authentication.getPrincipal() instanceof BaseUserDTO userDTO) {
+            return userDTO;
+        }
+
+        // Custom authentication filters may not store a BaseUserDTO, read the user info from the JWT payload instead
+        HttpServletRequest request = attributes instanceof ServletRequestAttributes servletRequestAttributes
+                ? servletRequestAttributes.getRequest()
+                : null;
+        String jwt = Objects.nonNull(request) ? request.getHeader(HttpHeaders.AUTHORIZATION) : null;
+        JwtDTO jwtDTO = Optional.ofNullable(Common.getInfoJwt(jwt)).orElseGet(JwtDTO::new);
+        String userAuthoritiesStr = Optional.ofNullable(jwtDTO.getAuthorities()).orElse("");
+        Set<String> authorities = Arrays.stream(userAuthoritiesStr.split(","))
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+
+        return BaseUserDTO.userBuilder()
+                .withId(jwtDTO.getUserId())
+                .withShopId(jwtDTO.getShopId())
+                .withShopName(jwtDTO.getShopName())
+                .withUsername(jwtDTO.getUsername())
+                .withAuthorities(authorities)
+                .build();
+    }
+
+    private record ResolvedPrincipal(Authentication authentication, BaseUserDTO user) {}
+}
@@ -0,0 +1,427 @@
+package com.dct.config.common;
+
+import com.dct.model.dto.request.BaseRequestDTO;
+import com.dct.model.exception.BaseIllegalArgumentException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Declarative description of the optional conditions of a native search query <p>
+ * Each request binds its values to the declared conditions, the conditions having a value form the shape of the query.
+ * The data and count SQL of each shape are built once then reused, so the same SQL text is sent to the driver
+ * for every request of a shape and no SQL is built in the steady state <p>
+ * Conditions produce the same SQL and parameter names as the {@code SqlUtils.add*Condition} methods, for example:
+ * <pre>
+ * private static final SqlQueryTemplate SEARCH_USERS = SqlQueryTemplate.builder()
+ *         .querySql("SELECT u.id, u.username FROM user u WHERE 1=1")
+ *         .countQuerySql("SELECT COUNT(*) FROM user u WHERE 1=1")
+ *         .equal("u.status")
+ *         .like("keyword", "u.username", "u.email")
+ *         .between("u.created_date")
+ *         .querySuffix(" ORDER BY u.created_date DESC")
+ *         .build();
+ *
+ * SqlUtils.queryBuilder(entityManager)
+ *         .template(SEARCH_USERS.bind()
+ *             .value("u.status", request.getStatus())
+ *             .value("keyword", request.getKeyword())
+ *             .dateTime("u.created_date", request))
+ *         .pageable(request.getPageable())
+ *         .getResultsWithPaging("userMapping");
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public final class SqlQueryTemplate {
+    private static final String ENTITY_NAME = "com.dct.config.common.SqlQueryTemplate";
+    private static final int MAX_SHAPE_BITS = Long.SIZE - 1;
+    private static final int MAX_CACHED_SHAPES = 256;
+    private final String querySql;
+    private final String countQuerySql;
+    private final String querySuffix;
+    private final String countQuerySuffix;
+    private final Condition[] conditions;
+    private final Map<String, Integer> conditionIndexes;
+    private final Cache<Long, CompiledSql> compiledShapes = Caffeine.newBuilder().maximumSize(MAX_CACHED_SHAPES).build();
+
+    private SqlQueryTemplate(Builder builder) {
+        this.querySql = builder.querySql;
+        this.countQuerySql = builder.countQuerySql;
+        this.querySuffix = builder.querySuffix;
+        this.countQuerySuffix = builder.countQuerySuffix;
+        this.conditions = builder.conditions.toArray(Condition[]::new);
+        this.conditionIndexes = new HashMap<>();
+
+        for (int i = 0; i < conditions.length; i++) {
+            if (Objects.nonNull(conditionIndexes.put(conditions[i].name, i))) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Duplicate condition: " + conditions[i].name);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return new empty bindings of this template, to be filled with the values of a request
+     */
+    public Bindings bind() {
+        return new Bindings();
+    }
+
+    /**
+     * @return the number of distinct shapes currently compiled
+     */
+    public long getCompiledShapes() {
+        return compiledShapes.estimatedSize();
+    }
+
+    private CompiledSql compile(long shape) {
+        StringBuilder conditionsSql = new StringBuilder();
+
+        for (Condition condition : conditions) {
+            int conditionShape = (int) (shape >>> condition.bit) & condition.mask();
+
+            if (conditionShape != 0) {
+                conditionsSql.append(condition.fragments[conditionShape]);
+            }
+        }
+
+        String data = SqlUtils.replaceWhere(new StringBuilder(querySql).append(conditionsSql).append(querySuffix));
+        // Keyset conditions cannot be appended after a suffix such as a GROUP BY clause
+        String keysetData = StringUtils.hasText(querySuffix) ? null : querySql + conditionsSql;
+        String count = null;
+
+        if (StringUtils.hasText(countQuerySql)) {
+            count = SqlUtils.replaceWhere(new StringBuilder(countQuerySql).append(conditionsSql).append(countQuerySuffix));
+        }
+
+        return new CompiledSql(data, keysetData, count);
+    }
+
+    private record CompiledSql(String querySql, String keysetQuerySql, String countQuerySql) {}
+
+    /**
+     * Values of the conditions of a template for one request
+     */
+    public final class Bindings {
+        private final Object[] values = new Object[conditions.length];
+        private final Object[] endValues = new Object[conditions.length];
+        private CompiledSql compiledSql;
+
+        private Bindings() {}
+
+        /**
+         * Binds the value of a single value, IN or LIKE condition, a null or empty value leaves the condition out
+         */
+        public Bindings value(String name, Object value) {
+            values[indexOf(name)] = value;
+            compiledSql = null;
+            return this;
+        }
+
+        /**
+         * Binds the bounds of a BETWEEN condition, a condition with a single bound is compiled as a comparison
+         */
+        public Bindings range(String name, Object startValue, Object endValue) {
+            int index = indexOf(name);
+            values[index] = startValue;
+            endValues[index] = endValue;
+            compiledSql = null;
+            return this;
+        }
+
+        public <T extends BaseRequestDTO> Bindings dateTime(String name, T request) {
+            return range(name, request.getFromInstantSearch(), request.getToInstantSearch());
+        }
+
+        public String getQuerySql() {
+            return compiled().querySql();
+        }
+
+        /**
+         * @return the data query with its conditions but without suffix and default WHERE clause replacement,
+         * to which keyset conditions are appended, or null if the template has a query suffix
+         */
+        public String getKeysetQuerySql() {
+            return compiled().keysetQuerySql();
+        }
+
+        public String getCountQuerySql() {
+            return compiled().countQuerySql();
+        }
+
+        /**
+         * @return the shape of the query, one bit per present condition and two bits per BETWEEN condition
+         */
+        public long getShape() {
+            long shape = 0;
+
+            for (int i = 0; i < conditions.length; i++) {
+                shape |= (long) conditions[i].shapeOf(values[i], endValues[i]) << conditions[i].bit;
+            }
+
+            return shape;
+        }
+
+        /**
+         * @return a new mutable map containing the parameters of the present conditions
+         */
+        public Map<String, Object> getParams() {
+            Map<String, Object> params = new HashMap<>();
+
+            for (int i = 0; i < conditions.length; i++) {
+                conditions[i].putParams(params, values[i], endValues[i]);
+            }
+
+            return params;
+        }
+
+        private CompiledSql compiled() {
+            if (Objects.isNull(compiledSql)) {
+                compiledSql = compiledShapes.get(getShape(), SqlQueryTemplate.this::compile);
+            }
+
+            return compiledSql;
+        }
+
+        private int indexOf(String name) {
+            Integer index = conditionIndexes.get(name);
+
+            if (Objects.isNull(index)) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Undeclared condition: " + name);
+            }
+
+            return index;
+        }
+    }
+
+    private enum Kind {
+        SINGLE,
+        COLLECTION,
+        LIKE,
+        BETWEEN
+    }
+
+    /**
+     * A declared condition and its precomputed SQL fragments, indexed by the shape of the condition
+     */
+    private static final class Condition {
+        // Shapes of a BETWEEN condition
+        private static final int START = 1;
+        private static final int END = 2;
+        private static final int BOTH = START | END;
+        private final String name;
+        private final Kind kind;
+        private final String[] paramNames;
+        private final String[] fragments;
+        private final int bit;
+
+        private Condition(String name, Kind kind, String[] paramNames, String[] fragments, int bit) {
+            this.name = name;
+            this.kind = kind;
+            this.paramNames = paramNames;
+            this.fragments = fragments;
+            this.bit = bit;
+        }
+
+        private int mask() {
+            return kind == Kind.BETWEEN ? BOTH : 1;
+        }
+
+        private int shapeOf(Object value, Object endValue) {
+            return switch (kind) {
+                case SINGLE -> Objects.nonNull(value) ? 1 : 0;
+                case COLLECTION -> value instanceof Collection<?> collection && !collection.isEmpty() ? 1 : 0;
+                case LIKE -> value instanceof String text && StringUtils.hasText(text) ? 1 : 0;
+                case BETWEEN -> (Objects.nonNull(value) ? START : 0) | (Objects.nonNull(endValue) ? END : 0);
+            };
+        }
+
+        private void putParams(Map<String, Object> params, Object value, Object endValue) {
+            int shape = shapeOf(value, endValue);
+
+            if (shape == 0) {
+                return;
+            }
+
+            switch (kind) {
+                case SINGLE, COLLECTION -> params.put(paramNames[0], value);
+                case LIKE -> {
+                    String text = (String) value;
+                    String likeValue = text.startsWith(SqlUtils.PERCENT) ? text : SqlUtils.PERCENT + text + SqlUtils.PERCENT;
+
+                    for (String paramName : paramNames) {
+                        params.put(paramName, likeValue);
+                    }
+                }
+                case BETWEEN -> {
+                    if (shape == BOTH) {
+                        params.put(paramNames[1], value);
+                        params.put(paramNames[2], endValue);
+                    } else {
+                        params.put(paramNames[0], shape == START ? value : endValue);
+                    }
+                }
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final List<Condition> conditions = new ArrayList<>();
+        private String querySql;
+        private String countQuerySql;
+        private String querySuffix = SqlUtils.EMPTY;
+        private String countQuerySuffix = SqlUtils.EMPTY;
+        private int bits;
+
+        private Builder() {}
+
+        /**
+         * @param querySql the data query up to its WHERE clause, usually ending with {@code WHERE 1=1}
+         */
+        public Builder querySql(String querySql) {
+            this.querySql = querySql;
+            return this;
+        }
+
+        /**
+         * @param countQuerySql the count query up to its WHERE clause, usually ending with {@code WHERE 1=1}
+         */
+        public Builder countQuerySql(String countQuerySql) {
+            this.countQuerySql = countQuerySql;
+            return this;
+        }
+
+        /**
+         * @param querySuffix appended to the data query after the conditions, such as GROUP BY or ORDER BY clauses
+         */
+        public Builder querySuffix(String querySuffix) {
+            this.querySuffix = Objects.nonNull(querySuffix) ? querySuffix : SqlUtils.EMPTY;
+            return this;
+        }
+
+        /**
+         * @param countQuerySuffix appended to the count query after the conditions, such as a GROUP BY clause
+         */
+        public Builder countQuerySuffix(String countQuerySuffix) {
+            this.countQuerySuffix = Objects.nonNull(countQuerySuffix) ? countQuerySuffix : SqlUtils.EMPTY;
+            return this;
+        }
+
+        public Builder equal(String column) {
+            return single(column, SqlUtils.EQUALS);
+        }
+
+        public Builder notEqual(String column) {
+            return single(column, SqlUtils.NOT_EQUALS);
+        }
+
+        public Builder greaterThan(String column) {
+            return single(column, SqlUtils.GREATER_THAN);
+        }
+
+        public Builder greaterThanOrEqual(String column) {
+            return single(column, SqlUtils.GREATER_THAN_OR_EQUAL);
+        }
+
+        public Builder lessThan(String column) {
+            return single(column, SqlUtils.LESS_THAN);
+        }
+
+        public Builder lessThanOrEqual(String column) {
+            return single(column, SqlUtils.LESS_THAN_OR_EQUAL);
+        }
+
+        public Builder in(String column) {
+            return collection(column, SqlUtils.IN);
+        }
+
+        public Builder notIn(String column) {
+            return collection(column, SqlUtils.NOT_IN);
+        }
+
+        public Builder between(String column) {
+            String[] fragments = new String[Condition.BOTH + 1];
+            fragments[Condition.START] = SqlUtils.AND + column + SqlUtils.GREATER_THAN + column;
+            fragments[Condition.END] = SqlUtils.AND + column + SqlUtils.LESS_THAN + column;
+            fragments[Condition.BOTH] = SqlUtils.AND + column
+                    + SqlUtils.BETWEEN + column + SqlUtils.START
+                    + SqlUtils.AND_PARAM + column + SqlUtils.END;
+            String[] paramNames = {column, column + SqlUtils.START, column + SqlUtils.END};
+            return add(column, Kind.BETWEEN, paramNames, fragments, 2);
+        }
+
+        /**
+         * @param name the name used to bind the searched value
+         * @param columns the columns matched by the searched value, combined with OR
+         */
+        public Builder like(String name, String... columns) {
+            if (Objects.isNull(columns) || columns.length == 0) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "LIKE condition requires at least one column");
+            }
+
+            StringBuilder fragment = new StringBuilder(SqlUtils.AND);
+            String[] paramNames = new String[columns.length];
+
+            if (columns.length > 1) {
+                fragment.append(SqlUtils.OPEN_PAREN);
+            }
+
+            for (int i = 0; i < columns.length; i++) {
+                paramNames[i] = columns[i] + SqlUtils.LIKE_SUFFIX;
+                fragment.append(columns[i]).append(SqlUtils.LIKE).append(paramNames[i]);
+
+                if (i < columns.length - 1) {
+                    fragment.append(SqlUtils.OR);
+                }
+            }
+
+            if (columns.length > 1) {
+                fragment.append(SqlUtils.CLOSE_PAREN);
+            }
+
+            return add(name, Kind.LIKE, paramNames, new String[] {null, fragment.toString()}, 1);
+        }
+
+        public SqlQueryTemplate build() {
+            if (!StringUtils.hasText(querySql)) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Query SQL must not be null or empty!");
+            }
+
+            return new SqlQueryTemplate(this);
+        }
+
+        private Builder single(String column, String operator) {
+            String fragment = SqlUtils.AND + column + operator + column;
+            return add(column, Kind.SINGLE, new String[] {column}, new String[] {null, fragment}, 1);
+        }
+
+        private Builder collection(String column, String operator) {
+            String paramName = column + SqlUtils.LIST;
+            String fragment = SqlUtils.AND + column + operator + paramName + SqlUtils.CLOSE_PAREN;
+            return add(column, Kind.COLLECTION, new String[] {paramName}, new String[] {null, fragment}, 1);
+        }
+
+        private Builder add(String name, Kind kind, String[] paramNames, String[] fragments, int conditionBits) {
+            if (bits + conditionBits > MAX_SHAPE_BITS) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Too many conditions in a query template");
+            }
+
+            conditions.add(new Condition(name, kind, paramNames, fragments, bits));
+            bits += conditionBits;
+            return this;
+        }
+    }
+}
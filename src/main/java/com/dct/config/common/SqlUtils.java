@@ -2,7 +2,14 @@ package com.dct.config.common;
 
 import com.dct.model.dto.request.BaseRequestDTO;
 import com.dct.model.exception.BaseIllegalArgumentException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.Query;
@@ -15,12 +22,22 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings("unused")
 public class SqlUtils {
@@ -54,6 +71,38 @@ public class SqlUtils {
     public static final String ORDER_BY = " ORDER BY ";
     public static final String DESC = " DESC";
     public static final String GROUP_BY = " GROUP BY ";
+    public static final String TOTAL_COUNT_COLUMN = "total_count";
+    public static final String WINDOW_COUNT = "COUNT(*) OVER() AS " + TOTAL_COUNT_COLUMN;
+    // Fetch size making MySQL Connector/J stream rows one by one instead of reading the whole result set
+    public static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+    private static final String CACHEABLE_HINT = "org.hibernate.cacheable";
+    private static final String CACHE_RETRIEVE_MODE_HINT = "jakarta.persistence.cache.retrieveMode";
+    private static final String CACHE_STORE_MODE_HINT = "jakarta.persistence.cache.storeMode";
+    private static final String COUNT_METRIC = "dct.query.count";
+    private static final String COUNT_OUTCOME_TAG = "outcome";
+    private static final Duration DEFAULT_COUNT_CACHE_TTL = Duration.ofSeconds(10);
+    private static final Cache<CountKey, CachedCount> cachedCounts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(new Expiry<CountKey, CachedCount>() {
+                @Override
+                public long expireAfterCreate(CountKey key, CachedCount count, long currentTime) {
+                    return count.timeToLive().toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(CountKey key, CachedCount count, long currentTime, long currentDuration) {
+                    return count.timeToLive().toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(CountKey key, CachedCount count, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     public static <T extends BaseRequestDTO> void addDateTimeCondition(
         StringBuilder sql,
@@ -195,7 +244,7 @@ public class SqlUtils {
         query.setMaxResults(pageSize);
     }
 
-    private static void setParams(Query query, Map<String, Object> params) {
+    static void setParams(Query query, Map<String, Object> params) {
         if (Objects.isNull(query) || Objects.isNull(params) || params.isEmpty())
             return;
 
@@ -221,6 +270,52 @@ public class SqlUtils {
         return query.toString();
     }
 
+    static void recordCount(String outcome) {
+        Metrics.counter(COUNT_METRIC, COUNT_OUTCOME_TAG, outcome).increment();
+    }
+
+    private record CountKey(String countQuerySql, Map<String, Object> params) {}
+
+    private record CachedCount(long total, Duration timeToLive) {}
+
+    /**
+     * Clears the persistence context before reading the next row once a batch of rows has been consumed
+     */
+    private static final class ClearingIterator<T> implements Iterator<T> {
+        private final Iterator<T> delegate;
+        private final EntityManager entityManager;
+        private final int clearEvery;
+        private long rows;
+        private long clearedAt;
+
+        private ClearingIterator(Iterator<T> delegate, EntityManager entityManager, int clearEvery) {
+            this.delegate = delegate;
+            this.entityManager = entityManager;
+            this.clearEvery = clearEvery;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // The cursor loads the next row when checking for it, so the previous batch is cleared first
+            if (rows > clearedAt && rows % clearEvery == 0) {
+                entityManager.clear();
+                clearedAt = rows;
+            }
+
+            return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            rows++;
+            return delegate.next();
+        }
+    }
+
     public static QueryBuilder queryBuilder(EntityManager entityManager) {
         return new QueryBuilder(entityManager);
     }
@@ -228,9 +323,16 @@ public class SqlUtils {
     public static class QueryBuilder {
         private final EntityManager entityManager;
         private String querySql;
+        // Query SQL before replacing its default WHERE clause, to which keyset conditions can still be appended
+        private String keysetQuerySql;
         private String countQuerySql;
         private Pageable pageable;
         private Map<String, Object> params = new HashMap<>();
+        private CountStrategy countStrategy = CountStrategy.ALWAYS;
+        private Duration countCacheTtl = DEFAULT_COUNT_CACHE_TTL;
+        private ConcurrentCountExecutor concurrentCountExecutor;
+        private int fetchSize = DEFAULT_STREAM_FETCH_SIZE;
+        private int clearEvery;
 
         public QueryBuilder(EntityManager entityManager) {
             this.entityManager = entityManager;
@@ -239,6 +341,7 @@ public class SqlUtils {
         public QueryBuilder querySql(String querySql) {
             if (StringUtils.hasText(querySql)) {
                 this.querySql = replaceWhere(new StringBuilder(querySql));
+                this.keysetQuerySql = querySql;
                 return this;
             }
 
@@ -254,6 +357,17 @@ public class SqlUtils {
             throw new BaseIllegalArgumentException(ENTITY_NAME, "Count query SQL must not be null or empty!");
         }
 
+        /**
+         * Uses the SQL compiled for the shape of the bound template and the parameters of its present conditions
+         */
+        public QueryBuilder template(SqlQueryTemplate.Bindings bindings) {
+            this.querySql = bindings.getQuerySql();
+            this.keysetQuerySql = bindings.getKeysetQuerySql();
+            this.countQuerySql = bindings.getCountQuerySql();
+            this.params = bindings.getParams();
+            return this;
+        }
+
         public QueryBuilder pageable(Pageable pageable) {
             this.pageable = pageable;
             return this;
@@ -267,8 +381,68 @@ public class SqlUtils {
             return this;
         }
 
+        public QueryBuilder countStrategy(CountStrategy countStrategy) {
+            if (Objects.nonNull(countStrategy)) {
+                this.countStrategy = countStrategy;
+            }
+
+            return this;
+        }
+
+        /**
+         * @param countCacheTtl how long a total is reused with the {@link CountStrategy#CACHED} strategy
+         */
+        public QueryBuilder countCacheTtl(Duration countCacheTtl) {
+            if (Objects.nonNull(countCacheTtl) && !countCacheTtl.isNegative() && !countCacheTtl.isZero()) {
+                this.countCacheTtl = countCacheTtl;
+            }
+
+            return this;
+        }
+
+        /**
+         * Runs the count query of {@link #getResultsWithPaging} on the given executor while the data query runs,
+         * the count is cancelled when the total is elided or cached, this does not apply to window counts
+         */
+        public QueryBuilder concurrentCount(ConcurrentCountExecutor concurrentCountExecutor) {
+            this.concurrentCountExecutor = concurrentCountExecutor;
+            return this;
+        }
+
+        /**
+         * @param fetchSize number of rows read per round trip by {@link #stream} and {@link #forEach}.
+         *                  With MySQL, a positive fetch size requires {@code useCursorFetch=true} in the JDBC URL,
+         *                  otherwise use {@link SqlUtils#MYSQL_STREAMING_FETCH_SIZE}
+         */
+        public QueryBuilder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Clears the persistence context every given number of rows read by {@link #stream} and {@link #forEach},
+         * so rows mapped to entities do not accumulate in memory. Clearing detaches all entities of the current
+         * persistence context and discards their unflushed changes, it is disabled by default (0)
+         */
+        public QueryBuilder clearEvery(int clearEvery) {
+            this.clearEvery = Math.max(clearEvery, 0);
+            return this;
+        }
+
         public <T> Page<T> getResultsWithPaging(String mappingName) {
-            return new PageImpl<>(getResults(mappingName), this.pageable, count());
+            if (Objects.nonNull(concurrentCountExecutor) && countStrategy != CountStrategy.WINDOW) {
+                return getResultsWithConcurrentCount(mappingName);
+            }
+
+            return switch (countStrategy) {
+                case ALWAYS -> {
+                    List<T> content = getResults(mappingName);
+                    yield new PageImpl<>(content, this.pageable, executeCount());
+                }
+                case ELIDE -> toPage(getResults(mappingName), this::executeCount);
+                case CACHED -> toPage(getResults(mappingName), this::cachedCount);
+                case WINDOW -> getResultsWithWindowCount(mappingName);
+            };
         }
 
         public <T> List<T> getResults(String mappingName) {
@@ -284,6 +458,243 @@ public class SqlUtils {
             return (List<T>) query.getResultList();
         }
 
+        /**
+         * Reads the rows through a database cursor instead of loading the whole result list <p>
+         * The rows are read-only and bypass the second-level and query caches. The stream holds the cursor and
+         * its connection open until it is closed, so it must be used within a transaction, for example of the
+         * {@code TransactionTemplate}, and closed with try-with-resources, or use {@link #forEach} instead.
+         * With MySQL streaming, no other query can run on the connection before the stream is closed
+         */
+        public <T> Stream<T> stream(String mappingName) {
+            if (!StringUtils.hasText(querySql)) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Query SQL must be set before execution");
+            }
+
+            Query query = entityManager.createNativeQuery(querySql, mappingName);
+            setPageable(query, pageable);
+            setParams(query, params);
+            query.setHint(FETCH_SIZE_HINT, fetchSize);
+            query.setHint(READ_ONLY_HINT, true);
+            query.setHint(CACHEABLE_HINT, false);
+            query.setHint(CACHE_RETRIEVE_MODE_HINT, CacheRetrieveMode.BYPASS);
+            query.setHint(CACHE_STORE_MODE_HINT, CacheStoreMode.BYPASS);
+
+            //noinspection unchecked
+            Stream<T> rows = (Stream<T>) query.getResultStream();
+
+            if (clearEvery == 0) {
+                return rows;
+            }
+
+            Iterator<T> iterator = new ClearingIterator<>(rows.iterator(), entityManager, clearEvery);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .onClose(rows::close);
+        }
+
+        /**
+         * Passes each row read by {@link #stream} to the action, then closes the cursor even if the action fails
+         */
+        public <T> void forEach(String mappingName, Consumer<T> action) {
+            try (Stream<T> rows = stream(mappingName)) {
+                rows.forEach(action);
+            }
+        }
+
+        /**
+         * Reads a page after the continuation token of the keyset instead of skipping the previous rows <p>
+         * The keyset conditions and ORDER BY clause are appended to the query SQL, which must therefore end
+         * with its WHERE clause and have no ORDER BY or GROUP BY clause, a template must have no query suffix.
+         * The pageable of this builder is ignored
+         */
+        public <T> KeysetPage<T> getResultsWithKeyset(String mappingName, Keyset<T> keyset) {
+            if (!StringUtils.hasText(keysetQuerySql)) {
+                if (StringUtils.hasText(querySql)) {
+                    throw new BaseIllegalArgumentException(
+                        ENTITY_NAME,
+                        "Keyset pagination does not support templates with a query suffix"
+                    );
+                }
+
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Query SQL must be set before execution");
+            }
+
+            Map<String, Object> keysetParams = new HashMap<>(params);
+            StringBuilder sql = new StringBuilder(keysetQuerySql);
+            keyset.appendTo(sql, keysetParams);
+
+            Query query = entityManager.createNativeQuery(replaceWhere(sql), mappingName);
+            setParams(query, keysetParams);
+            // One more row tells whether a next page exists without counting the rows
+            query.setMaxResults(keyset.getSize() + 1);
+
+            //noinspection unchecked
+            List<T> results = (List<T>) query.getResultList();
+
+            if (results.size() <= keyset.getSize()) {
+                return new KeysetPage<>(results, keyset.getSize(), false, null);
+            }
+
+            List<T> content = results.subList(0, keyset.getSize());
+            return new KeysetPage<>(content, keyset.getSize(), true, keyset.tokenOf(content.get(content.size() - 1)));
+        }
+
+        private <T> Page<T> getResultsWithConcurrentCount(String mappingName) {
+            if (!StringUtils.hasText(countQuerySql)) {
+                throw new BaseIllegalArgumentException(ENTITY_NAME, "Count query SQL must be set before execution");
+            }
+
+            boolean elidable = countStrategy != CountStrategy.ALWAYS;
+
+            // The total of an unpaged query is always elided, a concurrent count would only be discarded
+            if (elidable && (Objects.isNull(pageable) || pageable.isUnpaged())) {
+                return toPage(getResults(mappingName), this::executeCount);
+            }
+
+            CountKey key = new CountKey(countQuerySql, new HashMap<>(params));
+
+            if (countStrategy == CountStrategy.CACHED) {
+                CachedCount cachedCount = cachedCounts.getIfPresent(key);
+
+                if (Objects.nonNull(cachedCount)) {
+                    return toPage(getResults(mappingName), () -> {
+                        recordCount("cached");
+                        return cachedCount.total();
+                    });
+                }
+            }
+
+            // The count task reads its own copy of the parameters, they are modified when bound to the data query
+            ConcurrentCountExecutor.PendingCount pendingCount = concurrentCountExecutor.submit(
+                countQuerySql, new HashMap<>(params)
+            );
+
+            if (Objects.isNull(pendingCount)) {
+                return switch (countStrategy) {
+                    case CACHED -> toPage(getResults(mappingName), this::cachedCount);
+                    case ELIDE -> toPage(getResults(mappingName), this::executeCount);
+                    default -> {
+                        List<T> content = getResults(mappingName);
+                        yield new PageImpl<>(content, this.pageable, executeCount());
+                    }
+                };
+            }
+
+            List<T> content;
+
+            try {
+                content = getResults(mappingName);
+            } catch (RuntimeException e) {
+                pendingCount.cancel();
+                throw e;
+            }
+
+            // The count already ran or is running, so it is recorded as discarded rather than elided
+            if (elidable && isTotalKnown(content)) {
+                pendingCount.cancel();
+                recordCount("discarded");
+                return new PageImpl<>(content, this.pageable, this.pageable.getOffset() + content.size());
+            }
+
+            long total = pendingCount.get();
+
+            // The total is unknown, counting again would hold up the search for another full count.
+            // A full page then reports one more row so that it is not taken for the last page.
+            // The failed count is not cached, it would be served to every search with the same parameters
+            if (total < 0) {
+                boolean fullPage = content.size() >= this.pageable.getPageSize();
+                long knownRows = this.pageable.getOffset() + content.size();
+                return new PageImpl<>(content, this.pageable, fullPage ? knownRows + 1 : knownRows);
+            }
+
+            if (countStrategy == CountStrategy.CACHED) {
+                cachedCounts.put(key, new CachedCount(total, countCacheTtl));
+            }
+
+            return new PageImpl<>(content, this.pageable, total);
+        }
+
+        private <T> Page<T> getResultsWithWindowCount(String mappingName) {
+            List<Object> rows = getResults(mappingName);
+            List<T> content = new ArrayList<>(rows.size());
+            long total = -1;
+
+            for (Object row : rows) {
+                if (!(row instanceof Object[] columns) || columns.length < 2) {
+                    throw new BaseIllegalArgumentException(
+                        ENTITY_NAME, "Window count requires the total count column result in the mapping: " + mappingName
+                    );
+                }
+
+                //noinspection unchecked
+                content.add((T) columns[0]);
+                total = ((Number) columns[columns.length - 1]).longValue();
+            }
+
+            if (total >= 0) {
+                recordCount("window");
+                return new PageImpl<>(content, this.pageable, total);
+            }
+
+            // An empty page has no row carrying the total
+            return toPage(content, this::executeCount);
+        }
+
+        /**
+         * Builds the page without counting when the page itself tells the total
+         */
+        private <T> Page<T> toPage(List<T> content, LongSupplier totalSupplier) {
+            if (Objects.isNull(pageable) || pageable.isUnpaged()) {
+                recordCount("elided");
+                return new PageImpl<>(content);
+            }
+
+            if (isTotalKnown(content)) {
+                recordCount("elided");
+                return new PageImpl<>(content, pageable, pageable.getOffset() + content.size());
+            }
+
+            return new PageImpl<>(content, pageable, totalSupplier.getAsLong());
+        }
+
+        /**
+         * A page smaller than the page size is the last one, unless it is an empty page after the first one
+         */
+        private boolean isTotalKnown(List<?> content) {
+            return (pageable.getOffset() == 0 || !content.isEmpty()) && content.size() < pageable.getPageSize();
+        }
+
+        private long cachedCount() {
+            CountKey key = new CountKey(countQuerySql, new HashMap<>(params));
+            CachedCount cachedCount = cachedCounts.getIfPresent(key);
+
+            if (Objects.nonNull(cachedCount)) {
+                recordCount("cached");
+                return cachedCount.total();
+            }
+
+            long total = tryExecuteCount();
+
+            // A failed count is not cached, it would be served to every search with the same parameters
+            if (total < 0) {
+                return 0;
+            }
+
+            cachedCounts.put(key, new CachedCount(total, countCacheTtl));
+            return total;
+        }
+
+        private long executeCount() {
+            return Math.max(tryExecuteCount(), 0);
+        }
+
+        /**
+         * @return the total, or -1 if the count query failed
+         */
+        private long tryExecuteCount() {
+            recordCount("executed");
+            return countOrFailure();
+        }
+
         public <T> Optional<T> getSingleResult(String mappingName) {
             if (!StringUtils.hasText(querySql)) {
                 throw new BaseIllegalArgumentException(ENTITY_NAME, "Query SQL must be set before execution");
@@ -303,6 +714,10 @@ public class SqlUtils {
         }
 
         public long count() {
+            return Math.max(countOrFailure(), 0);
+        }
+
+        private long countOrFailure() {
             if (!StringUtils.hasText(countQuerySql)) {
                 throw new BaseIllegalArgumentException(ENTITY_NAME, "Count query SQL must be set before execution");
             }
@@ -317,7 +732,7 @@ public class SqlUtils {
                 log.error("[QUERY_COUNT_ERROR] - Could not execute count query: {}", e.getMessage());
             }
 
-            return 0L;
+            return -1L;
         }
     }
 }
@@ -0,0 +1,48 @@
+package com.dct.config.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Compressed bodies of responses carrying a strong ETag, keyed by request URI and query string, ETag and content coding <p>
+ * A strong ETag identifies the exact bytes of a representation, so a cached body can be sent again without
+ * compressing the response a second time. The cache is bounded by the total size of the cached bodies
+ *
+ * @author thoaidc
+ */
+public class CompressedResponseCache {
+    private final Cache<Key, byte[]> bodies;
+    private final int maximumBodySize;
+
+    /**
+     * @param maximumWeight maximum total size in bytes of the cached bodies
+     * @param maximumBodySize bodies larger than this size in bytes are not cached
+     */
+    public CompressedResponseCache(long maximumWeight, int maximumBodySize) {
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, byte[] body) -> body.length)
+                .build();
+        this.maximumBodySize = maximumBodySize;
+    }
+
+    public byte[] get(String cacheKey, String etag, ContentEncoding encoding) {
+        return bodies.getIfPresent(new Key(cacheKey, etag, encoding));
+    }
+
+    public void put(String cacheKey, String etag, ContentEncoding encoding, byte[] body) {
+        if (body.length <= maximumBodySize) {
+            bodies.put(new Key(cacheKey, etag, encoding), body);
+        }
+    }
+
+    public int getMaximumBodySize() {
+        return maximumBodySize;
+    }
+
+    public void clear() {
+        bodies.invalidateAll();
+    }
+
+    private record Key(String cacheKey, String etag, ContentEncoding encoding) {}
+}
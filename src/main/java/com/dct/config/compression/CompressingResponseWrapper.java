@@ -0,0 +1,478 @@
+package com.dct.config.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Buffers the beginning of the body until it exceeds the minimum compressed size, then either compresses
+ * the rest of the body or writes it as it is <p>
+ * Content-Length declared by the application is held back until the decision is made,
+ * since it no longer applies to a compressed body <p>
+ * Registering a {@link WriteListener} writes the rest of the body as it is, since non-blocking writes
+ * are delegated to the output stream of the response
+ *
+ * @author thoaidc
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private final ContentEncoding encoding;
+    private final ResponseCompressionFilter.Settings settings;
+    private final String cacheKey;
+    private final ByteArrayOutputStream buffer;
+    private State state = State.BUFFERING;
+    private long declaredContentLength = -1;
+    private PooledDeflaterOutputStream compressor;
+    private CapturingOutputStream capture;
+    private String cacheEtag;
+    private byte[] cachedBody;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletResponse response,
+                               ContentEncoding encoding,
+                               ResponseCompressionFilter.Settings settings,
+                               String cacheKey) {
+        super(response);
+        this.encoding = encoding;
+        this.settings = settings;
+        this.cacheKey = cacheKey;
+        this.buffer = new ByteArrayOutputStream(settings.minResponseSize());
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (Objects.isNull(outputStream)) {
+            outputStream = new CompressingServletOutputStream();
+        }
+
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (Objects.isNull(writer)) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (Objects.nonNull(writer)) {
+            writer.flush();
+        }
+
+        flushBody(true);
+
+        if (state != State.CACHED) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (state == State.BUFFERING) {
+            declaredContentLength = len;
+        } else if (state == State.RAW) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Objects.nonNull(value) ? Long.parseLong(value) : -1);
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Objects.nonNull(value) ? Long.parseLong(value) : -1);
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discardBuffer();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        discardBuffer();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        discardBuffer();
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        resetBody();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        resetBody();
+    }
+
+    /**
+     * Writes the buffered or cached body and completes the compressed data
+     */
+    void finish() throws IOException {
+        if (Objects.nonNull(writer)) {
+            writer.flush();
+        }
+
+        switch (state) {
+            case BUFFERING -> {
+                if (declaredContentLength < 0 && buffer.size() > 0) {
+                    declaredContentLength = buffer.size();
+                }
+
+                startRaw();
+            }
+            case COMPRESSING -> {
+                compressor.finish();
+
+                if (Objects.nonNull(capture) && capture.isComplete()) {
+                    settings.cache().put(cacheKey, cacheEtag, encoding, capture.toByteArray());
+                }
+            }
+            case CACHED -> {
+                super.setContentLength(cachedBody.length);
+                super.getOutputStream().write(cachedBody);
+            }
+            default -> {
+                // The body has already been written as it is
+            }
+        }
+
+        state = State.FINISHED;
+    }
+
+    /**
+     * Releases the deflater when the request failed before the response was completed
+     */
+    void abort() {
+        if (Objects.nonNull(compressor)) {
+            compressor.abort();
+        }
+
+        state = State.FINISHED;
+    }
+
+    private void writeBody(byte[] b, int off, int len) throws IOException {
+        if (state == State.BUFFERING) {
+            if (buffer.size() + len <= settings.minResponseSize()) {
+                buffer.write(b, off, len);
+                return;
+            }
+
+            decide(true);
+        }
+
+        switch (state) {
+            case COMPRESSING -> compressor.write(b, off, len);
+            case RAW -> super.getOutputStream().write(b, off, len);
+            default -> {
+                // The cached body replaces the body written by the application
+            }
+        }
+    }
+
+    /**
+     * Flushing the output stream keeps a small body buffered, since message converters flush it after every body <p>
+     * Flushing the response commits it, the body is then compressed only if its declared length exceeds the threshold
+     */
+    private void flushBody(boolean commit) throws IOException {
+        if (state == State.BUFFERING) {
+            if (!commit) {
+                return;
+            }
+
+            decide(declaredContentLength > settings.minResponseSize());
+        }
+
+        if (state == State.COMPRESSING) {
+            compressor.flush();
+        } else if (state == State.RAW) {
+            super.getOutputStream().flush();
+        }
+    }
+
+    private void decide(boolean largeBody) throws IOException {
+        if (largeBody && isCompressible()) {
+            startCompression();
+        } else {
+            startRaw();
+        }
+    }
+
+    private boolean isCompressible() {
+        int status = getStatus();
+
+        if (status == HttpServletResponse.SC_NO_CONTENT
+                || status == HttpServletResponse.SC_NOT_MODIFIED
+                || status == HttpServletResponse.SC_PARTIAL_CONTENT) {
+            return false;
+        }
+
+        if (Objects.nonNull(getHeader(HttpHeaders.CONTENT_ENCODING)) || Objects.nonNull(getHeader(HttpHeaders.CONTENT_RANGE))) {
+            return false;
+        }
+
+        String contentType = getContentType();
+
+        if (!StringUtils.hasText(contentType)) {
+            return false;
+        }
+
+        MimeType mimeType = MimeTypeUtils.parseMimeType(contentType);
+
+        for (MimeType compressibleType : settings.mimeTypes()) {
+            if (compressibleType.includes(mimeType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void startRaw() throws IOException {
+        state = State.RAW;
+
+        if (declaredContentLength >= 0) {
+            super.setContentLengthLong(declaredContentLength);
+        }
+
+        if (buffer.size() > 0) {
+            buffer.writeTo(super.getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    /**
+     * The deflater cannot be driven by a write listener, the buffered bytes are written before the listener
+     * is registered and the rest of the body is written as it is
+     */
+    private void startNonBlocking(WriteListener writeListener) throws IOException {
+        if (state == State.BUFFERING) {
+            startRaw();
+        }
+
+        if (state != State.RAW) {
+            throw new IllegalStateException("Cannot register a write listener after compression started");
+        }
+
+        super.getOutputStream().setWriteListener(writeListener);
+    }
+
+    private void startCompression() throws IOException {
+        super.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        addVaryHeader();
+        String etag = getHeader(HttpHeaders.ETAG);
+
+        if (StringUtils.hasText(etag) && !etag.startsWith(WEAK_ETAG_PREFIX)) {
+            // The compressed bytes differ from the identity representation, so its ETag can only be weak
+            super.setHeader(HttpHeaders.ETAG, WEAK_ETAG_PREFIX + etag);
+
+            if (Objects.nonNull(settings.cache())) {
+                cachedBody = settings.cache().get(cacheKey, etag, encoding);
+
+                if (Objects.nonNull(cachedBody)) {
+                    state = State.CACHED;
+                    buffer.reset();
+                    return;
+                }
+
+                cacheEtag = etag;
+            }
+        }
+
+        OutputStream target = super.getOutputStream();
+
+        if (Objects.nonNull(cacheEtag)) {
+            capture = new CapturingOutputStream(target, settings.cache().getMaximumBodySize());
+            target = capture;
+        }
+
+        state = State.COMPRESSING;
+        compressor = new PooledDeflaterOutputStream(target, settings.deflaterPool(), encoding);
+        buffer.writeTo(compressor);
+        buffer.reset();
+    }
+
+    private void addVaryHeader() {
+        for (String vary : getHeaders(HttpHeaders.VARY)) {
+            for (String header : StringUtils.commaDelimitedListToStringArray(vary)) {
+                if (HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(header.trim())) {
+                    return;
+                }
+            }
+        }
+
+        super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private void discardBuffer() {
+        if (state == State.BUFFERING) {
+            buffer.reset();
+            state = State.RAW;
+        }
+    }
+
+    private void resetBody() {
+        if (state == State.BUFFERING) {
+            buffer.reset();
+            declaredContentLength = -1;
+        }
+    }
+
+    private enum State {
+        BUFFERING,
+        COMPRESSING,
+        RAW,
+        CACHED,
+        FINISHED
+    }
+
+    private final class CompressingServletOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            writeBody(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writeBody(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBody(false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            if (state == State.RAW) {
+                try {
+                    return CompressingResponseWrapper.super.getOutputStream().isReady();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                startNonBlocking(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Copies the compressed bytes written to the response, until they exceed the maximum cached body size
+     */
+    private static final class CapturingOutputStream extends OutputStream {
+        private final OutputStream target;
+        private final int maximumSize;
+        private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(OutputStream target, int maximumSize) {
+            this.target = target;
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+
+            if (Objects.nonNull(captured)) {
+                if (captured.size() + len > maximumSize) {
+                    captured = null;
+                } else {
+                    captured.write(b, off, len);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        private boolean isComplete() {
+            return Objects.nonNull(captured);
+        }
+
+        private byte[] toByteArray() {
+            return captured.toByteArray();
+        }
+    }
+}
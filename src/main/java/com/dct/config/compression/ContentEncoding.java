@@ -0,0 +1,88 @@
+package com.dct.config.compression;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Content codings supported by {@link ResponseCompressionFilter}
+ *
+ * @author thoaidc
+ */
+public enum ContentEncoding {
+    GZIP("gzip", true),
+    DEFLATE("deflate", false);
+
+    private static final String ANY = "*";
+    private static final String QUALITY_PARAM = "q=";
+    private final String token;
+    // GZIP writes its own header and trailer around raw deflate data, DEFLATE uses the zlib format
+    private final boolean nowrap;
+
+    ContentEncoding(String token, boolean nowrap) {
+        this.token = token;
+        this.nowrap = nowrap;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    boolean isNowrap() {
+        return nowrap;
+    }
+
+    /**
+     * Selects the coding with the highest quality in an Accept-Encoding header, gzip wins ties
+     * @return the selected coding, or null if the client does not accept any of them
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+
+        float gzipQuality = -1f;
+        float deflateQuality = -1f;
+        float anyQuality = -1f;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            float quality = quality(parts);
+
+            if (GZIP.token.equals(name)) {
+                gzipQuality = quality;
+            } else if (DEFLATE.token.equals(name)) {
+                deflateQuality = quality;
+            } else if (ANY.equals(name)) {
+                anyQuality = quality;
+            }
+        }
+
+        // Codings not listed explicitly are accepted with the quality of "*"
+        gzipQuality = gzipQuality < 0 ? anyQuality : gzipQuality;
+        deflateQuality = deflateQuality < 0 ? anyQuality : deflateQuality;
+
+        if (gzipQuality <= 0 && deflateQuality <= 0) {
+            return null;
+        }
+
+        return gzipQuality >= deflateQuality ? GZIP : DEFLATE;
+    }
+
+    private static float quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+
+            if (param.startsWith(QUALITY_PARAM)) {
+                try {
+                    return Float.parseFloat(param.substring(QUALITY_PARAM.length()));
+                } catch (NumberFormatException e) {
+                    return 0f;
+                }
+            }
+        }
+
+        return 1f;
+    }
+}
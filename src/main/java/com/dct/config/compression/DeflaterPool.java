@@ -0,0 +1,41 @@
+package com.dct.config.compression;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Bounded pool of {@link Deflater}s per content coding <p>
+ * A deflater allocates a large native buffer, reusing them avoids an allocation and a native cleanup
+ * for each compressed response. Deflaters returned when the pool is full are ended immediately
+ *
+ * @author thoaidc
+ */
+public class DeflaterPool {
+    private final int level;
+    private final Map<ContentEncoding, BlockingQueue<Deflater>> deflaters = new EnumMap<>(ContentEncoding.class);
+
+    public DeflaterPool(int level, int maximumIdle) {
+        this.level = level;
+
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            deflaters.put(encoding, new ArrayBlockingQueue<>(Math.max(1, maximumIdle)));
+        }
+    }
+
+    public Deflater borrow(ContentEncoding encoding) {
+        Deflater deflater = deflaters.get(encoding).poll();
+        return Objects.nonNull(deflater) ? deflater : new Deflater(level, encoding.isNowrap());
+    }
+
+    public void release(ContentEncoding encoding, Deflater deflater) {
+        deflater.reset();
+
+        if (!deflaters.get(encoding).offer(deflater)) {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.dct.config.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Compresses to the target stream with a deflater borrowed from a {@link DeflaterPool} <p>
+ * Writes the gzip header and trailer itself for {@link ContentEncoding#GZIP}, since
+ * {@link java.util.zip.GZIPOutputStream} always allocates its own deflater <p>
+ * {@link #flush()} performs a sync flush, so the data written so far can be decompressed by the client
+ *
+ * @author thoaidc
+ */
+class PooledDeflaterOutputStream extends DeflaterOutputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private final DeflaterPool pool;
+    private final ContentEncoding encoding;
+    private final CRC32 crc;
+    private boolean released;
+
+    PooledDeflaterOutputStream(OutputStream out, DeflaterPool pool, ContentEncoding encoding) throws IOException {
+        super(out, pool.borrow(encoding), BUFFER_SIZE, true);
+        this.pool = pool;
+        this.encoding = encoding;
+        this.crc = encoding == ContentEncoding.GZIP ? new CRC32() : null;
+
+        if (encoding == ContentEncoding.GZIP) {
+            out.write(GZIP_HEADER);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        super.write(b, off, len);
+
+        if (Objects.nonNull(crc)) {
+            crc.update(b, off, len);
+        }
+    }
+
+    /**
+     * Completes the compressed data and returns the deflater to the pool, the target stream stays open
+     */
+    @Override
+    public void finish() throws IOException {
+        if (released) {
+            return;
+        }
+
+        super.finish();
+
+        if (Objects.nonNull(crc)) {
+            writeIntLE((int) crc.getValue());
+            writeIntLE((int) def.getBytesRead());
+        }
+
+        released = true;
+        pool.release(encoding, def);
+    }
+
+    /**
+     * Releases the native resources of the deflater when the response could not be completed
+     */
+    void abort() {
+        if (!released) {
+            released = true;
+            def.end();
+        }
+    }
+
+    private void writeIntLE(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+        out.write((value >>> 16) & 0xFF);
+        out.write((value >>> 24) & 0xFF);
+    }
+}
@@ -0,0 +1,106 @@
+package com.dct.config.compression;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compresses response bodies with gzip or deflate, as negotiated from the Accept-Encoding header <p>
+ * Bodies smaller than the minimum response size, with a content type outside the configured types,
+ * or already encoded are written as they are. Deflaters are reused through a {@link DeflaterPool} <p>
+ * When a {@link CompressedResponseCache} is configured, compressed bodies of responses with a strong ETag
+ * are cached and sent again for the same URI and ETag without being compressed <p>
+ * Async responses, such as streamed responses, are completed by their async dispatch
+ *
+ * @author thoaidc
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+    private final Settings settings;
+
+    /**
+     * @param minResponseSize bodies up to this size in bytes are not compressed
+     * @param mimeTypes compressible content types, wildcards are supported
+     * @param deflaterPool pool of the deflaters used to compress bodies
+     * @param cache cache of compressed bodies with a strong ETag, may be null
+     */
+    public ResponseCompressionFilter(int minResponseSize,
+                                     List<MimeType> mimeTypes,
+                                     DeflaterPool deflaterPool,
+                                     @Nullable CompressedResponseCache cache) {
+        this.settings = new Settings(Math.max(0, minResponseSize), List.copyOf(mimeTypes), deflaterPool, cache);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request,
+                                    @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+
+        // Async dispatch of a response wrapped by the initial request
+        if (Objects.nonNull(wrapper)) {
+            doFilterCompressed(request, response, filterChain, wrapper);
+            return;
+        }
+
+        ContentEncoding encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        boolean headRequest = HttpMethod.HEAD.matches(request.getMethod());
+        boolean rangeRequest = Objects.nonNull(request.getHeader(HttpHeaders.RANGE));
+
+        if (Objects.isNull(encoding) || headRequest || rangeRequest) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        wrapper = new CompressingResponseWrapper(response, encoding, settings, cacheKey(request));
+        doFilterCompressed(request, wrapper, filterChain, wrapper);
+    }
+
+    private void doFilterCompressed(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain,
+                                    CompressingResponseWrapper wrapper) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+
+            // The body of an async response is completed by its async dispatch
+            if (!isAsyncStarted(request)) {
+                wrapper.finish();
+            }
+        } catch (ServletException | IOException | RuntimeException e) {
+            wrapper.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Responses of the same path with different query parameters are different resources,
+     * even if they happen to carry the same ETag
+     */
+    private static String cacheKey(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return Objects.nonNull(queryString) ? request.getRequestURI() + "?" + queryString : request.getRequestURI();
+    }
+
+    record Settings(int minResponseSize,
+                    List<MimeType> mimeTypes,
+                    DeflaterPool deflaterPool,
+                    @Nullable CompressedResponseCache cache) {}
+}
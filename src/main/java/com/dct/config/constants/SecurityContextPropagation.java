@@ -0,0 +1,28 @@
+package com.dct.config.constants;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * How the {@link SecurityContextHolder} hands the security context over to other threads
+ * <ul>
+ *   <li>{@link #INHERITABLE}: every new thread copies the context of its parent thread when it is created</li>
+ *   <li>{@link #EXPLICIT}: the context is only visible to the thread owning it,
+ *   executors configured by the starter hand it over for each task and clear it afterward</li>
+ * </ul>
+ *
+ * @author thoaidc
+ */
+public enum SecurityContextPropagation {
+    INHERITABLE(SecurityContextHolder.MODE_INHERITABLETHREADLOCAL),
+    EXPLICIT(SecurityContextHolder.MODE_THREADLOCAL);
+
+    private final String strategyName;
+
+    SecurityContextPropagation(String strategyName) {
+        this.strategyName = strategyName;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+}
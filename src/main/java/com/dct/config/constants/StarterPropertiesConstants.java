@@ -0,0 +1,30 @@
+package com.dct.config.constants;
+
+/**
+ * Property keys of the features provided by this starter itself <p>
+ * Keys shared with other DCT modules are declared in {@link com.dct.model.constants.BasePropertiesConstants}
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public interface StarterPropertiesConstants {
+    String JWT_TOKEN_CACHE_CONFIG = "app.security.jwt.token-cache";
+    String ENABLED_JWT_TOKEN_CACHE = "app.security.jwt.token-cache.activate";
+    String JWT_TOKEN_REVOCATION_CONFIG = "app.security.jwt.revocation";
+    String ENABLED_JWT_TOKEN_REVOCATION = "app.security.jwt.revocation.activate";
+    String SECURITY_CONTEXT_CONFIG = "app.security.context";
+    String SECURITY_CONTEXT_PROPAGATION = "app.security.context.propagation";
+    String IDENTITY_HEADER_CONFIG = "app.security.identity-header";
+    String ENABLED_IDENTITY_HEADER = "app.security.identity-header.activate";
+    String PASSWORD_ENCODER_CONFIG = "app.security.password-encoder";
+    String ENABLED_SECURITY_FILTER_METRICS = "app.security.filter-metrics.activate";
+    String ENABLED_RESPONSE_CONVERTER = "app.response.converter.activate";
+    String STREAMING_RESPONSE_CONFIG = "app.response.streaming";
+    String RESPONSE_COMPRESSION_CONFIG = "app.response.compression";
+    String ENABLED_RESPONSE_COMPRESSION = "app.response.compression.activate";
+    String ENABLED_CONDITIONAL_RESPONSE = "app.response.etag.activate";
+    String LOCALE_RESOLVER_CONFIG = "app.i18n.locale-resolver";
+    String EXCEPTION_HANDLER_CONFIG = "app.exception-handler";
+    String CONCURRENT_COUNT_CONFIG = "app.query.concurrent-count";
+    String ENABLED_CONCURRENT_COUNT = "app.query.concurrent-count.activate";
+}
@@ -0,0 +1,27 @@
+package com.dct.config.etag;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables conditional GET (If-None-Match, If-Modified-Since) for a handler method or all handlers of a controller <p>
+ * With a {@link #versionSource()}, the version of the resource is resolved before the handler is invoked,
+ * a matching request is answered with 304 without invoking the handler nor serializing its response <p>
+ * Without a version source, the ETag is a hash of the serialized response, computed without buffering the body,
+ * a matching request is answered with 304 without writing the body
+ *
+ * @author thoaidc
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings("unused")
+public @interface ConditionalResponse {
+    // Resolves the version of the requested resource, a bean of this type is used if present
+    Class<? extends ResponseVersionSource> versionSource() default ResponseVersionSource.class;
+}
@@ -0,0 +1,156 @@
+package com.dct.config.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers conditional GET requests of handlers annotated with {@link ConditionalResponse} without a version source <p>
+ * The response body is serialized into a digest instead of a buffer, the resulting strong ETag
+ * is compared with If-None-Match and a matching request is answered with 304 without writing the body <p>
+ * The resolved locale is part of the hash, since the messages of the body are translated per locale
+ *
+ * @author thoaidc
+ */
+@ControllerAdvice
+public class ConditionalResponseAdvice implements ResponseBodyAdvice<Object> {
+    private static final Logger log = LoggerFactory.getLogger(ConditionalResponseAdvice.class);
+    private static final String DIGEST_ALGORITHM = "MD5";
+    private static final String ETAG_PREFIX = "\"0";
+    private static final String ETAG_SUFFIX = "\"";
+    private final ObjectWriter objectWriter;
+    private final Map<Method, Boolean> hashedMethods = new ConcurrentHashMap<>();
+
+    public ConditionalResponseAdvice(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public boolean supports(@Nonnull MethodParameter returnType,
+                            @Nonnull Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = returnType.getMethod();
+
+        if (Objects.isNull(method)) {
+            return false;
+        }
+
+        return hashedMethods.computeIfAbsent(method, key -> {
+            ConditionalResponse annotation = ConditionalResponseInterceptor.findAnnotation(
+                key,
+                returnType.getContainingClass()
+            );
+
+            return Objects.nonNull(annotation) && annotation.versionSource() == ResponseVersionSource.class;
+        });
+    }
+
+    @Override
+    public Object beforeBodyWrite(@Nullable Object body,
+                                  @Nonnull MethodParameter returnType,
+                                  @Nonnull MediaType selectedContentType,
+                                  @Nonnull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @Nonnull ServerHttpRequest request,
+                                  @Nonnull ServerHttpResponse response) {
+        if (Objects.isNull(body)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        boolean versioned = Objects.nonNull(httpRequest.getAttribute(ConditionalResponseInterceptor.VERSIONED_REQUEST_ATTRIBUTE));
+        HttpStatus status = HttpStatus.resolve(httpResponse.getStatus());
+
+        if (versioned || !ConditionalResponseInterceptor.isSafeMethod(httpRequest)
+                || Objects.isNull(status) || !status.is2xxSuccessful()) {
+            return body;
+        }
+
+        String etag;
+
+        try {
+            etag = hash(body);
+        } catch (IOException e) {
+            log.warn("[CONDITIONAL_RESPONSE] - Could not compute ETag of response: {}", e.getMessage());
+            return body;
+        }
+
+        httpResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+
+        if (new ServletWebRequest(httpRequest, httpResponse).checkNotModified(etag)) {
+            log.debug("[CONDITIONAL_RESPONSE] - Response not modified: {}", httpRequest.getRequestURI());
+            return null;
+        }
+
+        return body;
+    }
+
+    private String hash(Object body) throws IOException {
+        MessageDigest digest = newDigest();
+        digest.update(LocaleContextHolder.getLocale().toLanguageTag().getBytes(StandardCharsets.UTF_8));
+        objectWriter.writeValue(new DigestSink(digest), body);
+        return ETAG_PREFIX + HexFormat.of().formatHex(digest.digest()) + ETAG_SUFFIX;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Feeds the serialized body to the digest without keeping it
+     */
+    private static final class DigestSink extends OutputStream {
+        private final MessageDigest digest;
+
+        private DigestSink(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(int b) {
+            digest.update((byte) b);
+        }
+
+        @Override
+        public void write(@Nonnull byte[] b, int off, int len) {
+            digest.update(b, off, len);
+        }
+    }
+}
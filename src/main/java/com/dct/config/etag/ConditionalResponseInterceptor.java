@@ -0,0 +1,115 @@
+package com.dct.config.etag;
+
+import com.dct.config.aop.BaseCheckAuthorizeAspect;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers conditional GET requests of handlers declaring a {@link ConditionalResponse#versionSource()}
+ * before the handler is invoked <p>
+ * The ETag and Last-Modified headers of the resolved version are set on the response in every case,
+ * a request whose validators match the version is answered with 304 and the handler is not invoked <p>
+ * The version is only resolved once the caller passes the @{@link com.dct.config.aop.annotation.CheckAuthorize}
+ * requirements of the handler, a rejected caller gets the error of the aspect without any validator
+ *
+ * @author thoaidc
+ */
+public class ConditionalResponseInterceptor implements HandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(ConditionalResponseInterceptor.class);
+    // Marks requests whose validators have already been checked against an application version
+    static final String VERSIONED_REQUEST_ATTRIBUTE = ConditionalResponseInterceptor.class.getName() + ".VERSIONED";
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<BaseCheckAuthorizeAspect> checkAuthorizeAspect;
+    private final Map<Method, Optional<ResponseVersionSource>> versionSources = new ConcurrentHashMap<>();
+
+    public ConditionalResponseInterceptor(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.checkAuthorizeAspect = applicationContext.getBeanProvider(BaseCheckAuthorizeAspect.class);
+    }
+
+    @Override
+    public boolean preHandle(@Nonnull HttpServletRequest request,
+                             @Nonnull HttpServletResponse response,
+                             @Nonnull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !isSafeMethod(request)) {
+            return true;
+        }
+
+        ResponseVersionSource versionSource = versionSources
+                .computeIfAbsent(handlerMethod.getMethod(), method -> resolveVersionSource(handlerMethod))
+                .orElse(null);
+
+        if (Objects.isNull(versionSource) || !isAuthorized(handlerMethod)) {
+            return true;
+        }
+
+        ResponseVersion version = versionSource.resolve(request);
+
+        if (Objects.isNull(version)) {
+            return true;
+        }
+
+        request.setAttribute(VERSIONED_REQUEST_ATTRIBUTE, Boolean.TRUE);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            log.debug("[CONDITIONAL_RESPONSE] - Resource not modified: {}", request.getRequestURI());
+            return false;
+        }
+
+        return true;
+    }
+
+    static ConditionalResponse findAnnotation(Method method, Class<?> beanType) {
+        ConditionalResponse annotation = AnnotatedElementUtils.findMergedAnnotation(method, ConditionalResponse.class);
+        return Objects.nonNull(annotation)
+                ? annotation
+                : AnnotatedElementUtils.findMergedAnnotation(beanType, ConditionalResponse.class);
+    }
+
+    static boolean isSafeMethod(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    /**
+     * An unauthorized request proceeds without validators, the handler invocation is then rejected by the aspect
+     */
+    private boolean isAuthorized(HandlerMethod handlerMethod) {
+        Class<?> targetClass = ClassUtils.getUserClass(handlerMethod.getBeanType());
+        return checkAuthorizeAspect.stream()
+                .allMatch(aspect -> aspect.isAuthorized(handlerMethod.getMethod(), targetClass));
+    }
+
+    private Optional<ResponseVersionSource> resolveVersionSource(HandlerMethod handlerMethod) {
+        ConditionalResponse annotation = findAnnotation(handlerMethod.getMethod(), handlerMethod.getBeanType());
+
+        if (Objects.isNull(annotation) || annotation.versionSource() == ResponseVersionSource.class) {
+            return Optional.empty();
+        }
+
+        Class<? extends ResponseVersionSource> type = annotation.versionSource();
+        // If the version source is a Spring bean, get it from the context, otherwise create it with its dependencies
+        ResponseVersionSource versionSource = applicationContext.getBeanProvider(type)
+                .getIfAvailable(() -> applicationContext.getAutowireCapableBeanFactory().createBean(type));
+        return Optional.of(versionSource);
+    }
+}
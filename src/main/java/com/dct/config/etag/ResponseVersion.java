@@ -0,0 +1,87 @@
+package com.dct.config.etag;
+
+import com.dct.config.entity.AbstractAuditingEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Version of a resource, compared with the If-None-Match and If-Modified-Since headers of a request <p>
+ * ETags built from application versions are weak, they identify the state of the resource,
+ * not the exact bytes of a response. ETags built from entities are hashed, so they expose neither the ids
+ * nor the modification dates of the entities
+ *
+ * @param etag the ETag of the resource, may be null
+ * @param lastModified the last modification of the resource, may be null
+ * @author thoaidc
+ */
+public record ResponseVersion(String etag, Instant lastModified) {
+    private static final String WEAK_ETAG_PREFIX = "W/\"";
+    private static final String ETAG_SUFFIX = "\"";
+    private static final String DIGEST_ALGORITHM = "MD5";
+
+    public static ResponseVersion ofVersion(Object version) {
+        return new ResponseVersion(weakEtag(String.valueOf(version)), null);
+    }
+
+    public static ResponseVersion ofLastModified(Instant lastModified) {
+        return new ResponseVersion(null, lastModified);
+    }
+
+    /**
+     * Version of a single entity, identified by its id and last modified date
+     */
+    public static ResponseVersion of(AbstractAuditingEntity entity) {
+        Instant lastModified = lastModifiedOf(entity);
+        return new ResponseVersion(hashedEtag(entity.getId() + "-" + lastModified.toEpochMilli()), lastModified);
+    }
+
+    /**
+     * Version of a list of entities, which changes when an entity is modified, added or removed
+     */
+    public static ResponseVersion of(Collection<? extends AbstractAuditingEntity> entities) {
+        Instant lastModified = Instant.EPOCH;
+        int idsHash = 1;
+
+        for (AbstractAuditingEntity entity : entities) {
+            Instant entityLastModified = lastModifiedOf(entity);
+            lastModified = entityLastModified.isAfter(lastModified) ? entityLastModified : lastModified;
+            idsHash = 31 * idsHash + Objects.hashCode(entity.getId());
+        }
+
+        String version = entities.size() + "-" + Integer.toHexString(idsHash) + "-" + lastModified.toEpochMilli();
+        return new ResponseVersion(hashedEtag(version), lastModified);
+    }
+
+    long lastModifiedMillis() {
+        return Objects.nonNull(lastModified) ? lastModified.toEpochMilli() : -1;
+    }
+
+    private static Instant lastModifiedOf(AbstractAuditingEntity entity) {
+        Instant lastModified = entity.getLastModifiedDate();
+
+        if (Objects.isNull(lastModified)) {
+            lastModified = entity.getCreatedDate();
+        }
+
+        return Objects.nonNull(lastModified) ? lastModified : Instant.EPOCH;
+    }
+
+    private static String hashedEtag(String version) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(version.getBytes(StandardCharsets.UTF_8));
+            return weakEtag(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String weakEtag(String version) {
+        return WEAK_ETAG_PREFIX + version.replace(ETAG_SUFFIX, "") + ETAG_SUFFIX;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dct.config.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the version of the resource requested from a handler annotated with {@link ConditionalResponse},
+ * usually with a cheap query such as selecting the last modified date of an entity
+ *
+ * @author thoaidc
+ */
+@FunctionalInterface
+public interface ResponseVersionSource {
+
+    /**
+     * @return the current version of the requested resource, or null to process the request unconditionally
+     */
+    ResponseVersion resolve(HttpServletRequest request);
+}
@@ -1,5 +1,7 @@
 package com.dct.config.exception;
 
+import com.dct.config.common.DeduplicatingErrorLogger;
+import com.dct.config.security.password.PasswordHashingRejectedException;
 import com.dct.model.constants.BaseExceptionConstants;
 import com.dct.model.constants.BaseHttpStatusConstants;
 import com.dct.model.dto.response.BaseResponseDTO;
@@ -10,11 +12,15 @@ import com.dct.model.exception.BaseException;
 import com.dct.model.exception.BaseIllegalArgumentException;
 import com.dct.model.exception.BaseInternalServerException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -36,13 +42,21 @@ import java.util.Objects;
 /**
  * Used to handle exceptions in the application centrally and return consistent responses <p>
  * Provides a standardized and centralized approach to handling common errors in Spring applications <p>
- * Helps log detailed errors, return structured responses, and easily internationalize error messages
+ * Helps log detailed errors, return structured responses, and easily internationalize error messages <p>
+ * Handled exceptions are counted per type and error key when a {@link MeterRegistry} is available <p>
+ * Repeated errors are logged in full once, then summarized by {@link DeduplicatingErrorLogger}
  *
  * @author thoaidc
  */
 @ControllerAdvice
 public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandler {
     private static final Logger log = LoggerFactory.getLogger(BaseExceptionHandler.class);
+    private ExceptionMetrics exceptionMetrics;
+
+    @Autowired
+    public void setMeterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry -> this.exceptionMetrics = new ExceptionMetrics(registry));
+    }
 
     /**
      * Handle exceptions when an HTTP method is not supported (ex: calling POST on an endpoint that only supports GET)
@@ -58,6 +72,7 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
                                                                       @Nullable HttpStatusCode status,
                                                                       @Nullable WebRequest request) {
         log.error("[METHOD_NOT_ALLOWED_EXCEPTION] - message: {}", Objects.nonNull(e) ? e.getMessage() : "");
+        recordException(HttpRequestMethodNotSupportedException.class, BaseExceptionConstants.METHOD_NOT_ALLOW);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.METHOD_NOT_ALLOWED,
             BaseExceptionConstants.METHOD_NOT_ALLOW
@@ -88,6 +103,7 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
         }
 
         log.error("[INVALID_REQUEST_DATA_EXCEPTION] - message: {}", exception.getMessage());
+        recordException(exception.getClass(), errorKey);
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.BAD_REQUEST, errorKey);
         return new ResponseEntity<>(responseDTO, HttpStatus.BAD_REQUEST);
     }
@@ -98,6 +114,7 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
                                                                        @Nullable HttpStatusCode status,
                                                                        WebRequest request) {
         log.error("[MAXIMUM_UPLOAD_EXCEPTION] at: {} - {}", request.getClass().getName(), e.getMessage());
+        recordException(e.getClass(), BaseExceptionConstants.MAXIMUM_UPLOAD_SIZE_EXCEEDED);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.BAD_REQUEST,
             BaseExceptionConstants.MAXIMUM_UPLOAD_SIZE_EXCEEDED
@@ -110,7 +127,8 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
                                                                   @Nullable HttpHeaders headers,
                                                                   @Nullable HttpStatusCode status,
                                                                   @Nullable WebRequest request) {
-        log.error("[HTTP_MESSAGE_NOT_READABLE] - error: ", exception);
+        DeduplicatingErrorLogger.error(log, "[HTTP_MESSAGE_NOT_READABLE] - error: ", exception);
+        recordException(HttpMessageNotReadableException.class, BaseExceptionConstants.INVALID_REQUEST_DATA);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.UNPROCESSABLE_ENTITY,
             BaseExceptionConstants.INVALID_REQUEST_DATA
@@ -123,7 +141,8 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
                                                                   @Nullable HttpHeaders headers,
                                                                   @Nullable HttpStatusCode status,
                                                                   @Nullable WebRequest request) {
-        log.error("[HTTP_MESSAGE_NOT_WRITABLE] - error: ", exception);
+        DeduplicatingErrorLogger.error(log, "[HTTP_MESSAGE_NOT_WRITABLE] - error: ", exception);
+        recordException(HttpMessageNotWritableException.class, BaseExceptionConstants.UNCERTAIN_ERROR);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.UNPROCESSABLE_ENTITY,
             BaseExceptionConstants.UNCERTAIN_ERROR
@@ -133,50 +152,66 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
 
     @ExceptionHandler({ BaseAuthenticationException.class })
     public ResponseEntity<BaseResponseDTO> handleBaseAuthenticationException(BaseAuthenticationException exception) {
-        log.error("[AUTHENTICATION_EXCEPTION] - at: {} ", exception.getEntityName(), exception.getError());
+        DeduplicatingErrorLogger.error(log, "[AUTHENTICATION_EXCEPTION] - at: {} ", exception.getEntityName(), exception.getError());
         String errorMessage = StringUtils.hasText(exception.getOriginalMessage())
                 ? exception.getOriginalMessage()
                 : exception.getErrorKey();
+        recordException(exception.getClass(), exception.getErrorKey());
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.UNAUTHORIZED, errorMessage);
         return new ResponseEntity<>(responseDTO, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler({ BaseBadRequestException.class, BaseBadRequestAlertException.class })
     public ResponseEntity<BaseResponseDTO> handleBaseBadRequestException(BaseException exception) {
-        log.error("[BAD_REQUEST_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
+        DeduplicatingErrorLogger.error(log, "[BAD_REQUEST_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
         String errorMessage = StringUtils.hasText(exception.getOriginalMessage())
                 ? exception.getOriginalMessage()
                 : exception.getErrorKey();
+        recordException(exception.getClass(), exception.getErrorKey());
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.BAD_REQUEST, errorMessage);
         return new ResponseEntity<>(responseDTO, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler({ BaseIllegalArgumentException.class })
     public ResponseEntity<BaseResponseDTO> handleBaseIllegalArgumentException(BaseIllegalArgumentException exception) {
-        log.error("[ILLEGAL_ARGUMENT_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
+        DeduplicatingErrorLogger.error(log, "[ILLEGAL_ARGUMENT_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
         String errorMessage = StringUtils.hasText(exception.getOriginalMessage())
                 ? exception.getOriginalMessage()
                 : exception.getErrorKey();
+        recordException(exception.getClass(), exception.getErrorKey());
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.UNPROCESSABLE_ENTITY, errorMessage);
         return new ResponseEntity<>(responseDTO, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
     @ExceptionHandler({ BaseInternalServerException.class })
     public ResponseEntity<BaseResponseDTO> handleBaseInternalServerException(BaseInternalServerException exception) {
-        log.error("[INTERNAL_SERVER_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
+        DeduplicatingErrorLogger.error(log, "[INTERNAL_SERVER_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
         String errorMessage = StringUtils.hasText(exception.getOriginalMessage())
                 ? exception.getOriginalMessage()
                 : exception.getErrorKey();
+        recordException(exception.getClass(), exception.getErrorKey());
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.INTERNAL_SERVER_ERROR, errorMessage);
         return new ResponseEntity<>(responseDTO, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler({ PasswordHashingRejectedException.class })
+    public ResponseEntity<BaseResponseDTO> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        log.error("[PASSWORD_HASHING_REJECTED_EXCEPTION] - error: {}", e.getMessage());
+        recordException(e.getClass(), PasswordHashingRejectedException.ERROR_KEY);
+        BaseResponseDTO responseDTO = convertResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            PasswordHashingRejectedException.ERROR_KEY
+        );
+        return new ResponseEntity<>(responseDTO, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler({ BaseException.class })
     public ResponseEntity<BaseResponseDTO> handleBaseException(BaseException exception) {
-        log.error("[BASE_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
+        DeduplicatingErrorLogger.error(log, "[BASE_EXCEPTION] - at: {}", exception.getEntityName(), exception.getError());
         String errorMessage = StringUtils.hasText(exception.getOriginalMessage())
                 ? exception.getOriginalMessage()
                 : exception.getErrorKey();
+        recordException(exception.getClass(), exception.getErrorKey());
         BaseResponseDTO responseDTO = convertResponse(BaseHttpStatusConstants.INTERNAL_SERVER_ERROR, errorMessage);
         return new ResponseEntity<>(responseDTO, HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -184,7 +219,8 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
     @ExceptionHandler({ NullPointerException.class })
     public ResponseEntity<Object> handleNullPointerException(NullPointerException exception, WebRequest request) {
         // Handle NullPointerException (include of Objects.requireNonNull())
-        log.error("[NULL_POINTER_EXCEPTION] - at: {}. ", request.getClass().getName(), exception);
+        DeduplicatingErrorLogger.error(log, "[NULL_POINTER_EXCEPTION] - at: {}. ", request.getClass().getName(), exception);
+        recordException(exception.getClass(), BaseExceptionConstants.NULL_EXCEPTION);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.INTERNAL_SERVER_ERROR,
             BaseExceptionConstants.NULL_EXCEPTION
@@ -194,7 +230,8 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
 
     @ExceptionHandler({ RuntimeException.class })
     public ResponseEntity<BaseResponseDTO> handleRuntimeException(RuntimeException exception) {
-        log.error("[RUNTIME_EXCEPTION] - error: ", exception);
+        DeduplicatingErrorLogger.error(log, "[RUNTIME_EXCEPTION] - error: ", exception);
+        recordException(exception.getClass(), BaseExceptionConstants.UNCERTAIN_ERROR);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.INTERNAL_SERVER_ERROR,
             BaseExceptionConstants.UNCERTAIN_ERROR
@@ -204,7 +241,8 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
 
     @ExceptionHandler({ Exception.class })
     public ResponseEntity<BaseResponseDTO> handleException(Exception exception) {
-        log.error("[GENERAL_EXCEPTION] - error: ", exception);
+        DeduplicatingErrorLogger.error(log, "[GENERAL_EXCEPTION] - error: ", exception);
+        recordException(exception.getClass(), BaseExceptionConstants.UNCERTAIN_ERROR);
         BaseResponseDTO responseDTO = convertResponse(
             BaseHttpStatusConstants.INTERNAL_SERVER_ERROR,
             BaseExceptionConstants.UNCERTAIN_ERROR
@@ -212,6 +250,15 @@ public abstract class BaseExceptionHandler extends ResponseEntityExceptionHandle
         return new ResponseEntity<>(responseDTO, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Counts a handled exception, the error key must be a message key, not a free text message
+     */
+    protected void recordException(Class<?> exceptionType, String errorKey) {
+        if (Objects.nonNull(exceptionMetrics)) {
+            exceptionMetrics.record(exceptionType, errorKey);
+        }
+    }
+
     private BaseResponseDTO convertResponse(int code, String message) {
         log.error("Error: {}", message);
         return BaseResponseDTO.builder().code(code).success(Boolean.FALSE).message(message).build();
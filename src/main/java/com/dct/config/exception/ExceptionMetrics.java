@@ -0,0 +1,55 @@
+package com.dct.config.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the exceptions handled by {@link BaseExceptionHandler} per exception type and error key <p>
+ * The number of distinct error keys is bounded, keys seen after the limit is reached are counted as {@code other}
+ *
+ * @author thoaidc
+ */
+public class ExceptionMetrics {
+    private static final String COUNTER_NAME = "dct.exceptions";
+    private static final String EXCEPTION_TAG = "exception";
+    private static final String ERROR_KEY_TAG = "error_key";
+    private static final String NONE_ERROR_KEY = "none";
+    private static final String OTHER_ERROR_KEY = "other";
+    private static final int MAX_COUNTERS = 1000;
+    private final MeterRegistry meterRegistry;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public ExceptionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(Class<?> exceptionType, String errorKey) {
+        CounterKey key = new CounterKey(exceptionType, StringUtils.hasText(errorKey) ? errorKey : NONE_ERROR_KEY);
+        Counter counter = counters.get(key);
+
+        if (Objects.isNull(counter)) {
+            if (counters.size() >= MAX_COUNTERS) {
+                key = new CounterKey(exceptionType, OTHER_ERROR_KEY);
+            }
+
+            counter = counters.computeIfAbsent(key, this::register);
+        }
+
+        counter.increment();
+    }
+
+    private Counter register(CounterKey key) {
+        return Counter.builder(COUNTER_NAME)
+                .tag(EXCEPTION_TAG, key.exceptionType().getSimpleName())
+                .tag(ERROR_KEY_TAG, key.errorKey())
+                .register(meterRegistry);
+    }
+
+    private record CounterKey(Class<?> exceptionType, String errorKey) {}
+}
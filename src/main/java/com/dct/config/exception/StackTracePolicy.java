@@ -0,0 +1,42 @@
+package com.dct.config.exception;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether the stackless exceptions of the starter fill in their stack trace <p>
+ * Filling in a stack trace walks the whole call stack of the throwing thread, which is wasted for client errors
+ * (4xx) that are answered without ever logging it. The policy is static because it is consulted
+ * from exception constructors, it is configured once at startup by the exception handler auto configuration
+ *
+ * @author thoaidc
+ */
+public final class StackTracePolicy {
+    private static volatile boolean stackless = false;
+    private static volatile List<Class<?>> stackTraceTypes = List.of();
+    private static final Map<Class<?>, Boolean> decisions = new ConcurrentHashMap<>();
+
+    private StackTracePolicy() {}
+
+    /**
+     * @param enabled true to create stackless exceptions without stack trace
+     * @param keptStackTraceTypes exception types, including their subtypes, which keep their stack trace
+     */
+    public static void configure(boolean enabled, Collection<Class<?>> keptStackTraceTypes) {
+        stackTraceTypes = List.copyOf(keptStackTraceTypes);
+        stackless = enabled;
+        decisions.clear();
+    }
+
+    public static boolean isStackless(Class<?> exceptionType) {
+        if (!stackless) {
+            return false;
+        }
+
+        return decisions.computeIfAbsent(exceptionType, type -> stackTraceTypes.stream().noneMatch(
+            keptType -> keptType.isAssignableFrom(type)
+        ));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dct.config.exception;
+
+import com.dct.model.exception.BaseAuthenticationException;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseAuthenticationException} created without stack trace when allowed by the {@link StackTracePolicy} <p>
+ * Thrown by the starter for ordinary client errors, answered as 401 Unauthorized and 403 Forbidden
+ *
+ * @author thoaidc
+ */
+public class StacklessAuthenticationException extends BaseAuthenticationException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessAuthenticationException(String entityName, String errorKey) {
+        super(entityName, errorKey);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.isStackless(getClass()) ? this : super.fillInStackTrace();
+    }
+}
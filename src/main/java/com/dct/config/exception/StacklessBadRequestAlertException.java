@@ -0,0 +1,25 @@
+package com.dct.config.exception;
+
+import com.dct.model.exception.BaseBadRequestAlertException;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseBadRequestAlertException} created without stack trace when allowed by the {@link StackTracePolicy} <p>
+ * Thrown by the starter for ordinary client errors, answered as 400 Bad Request
+ *
+ * @author thoaidc
+ */
+public class StacklessBadRequestAlertException extends BaseBadRequestAlertException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessBadRequestAlertException(String entityName, String errorKey) {
+        super(entityName, errorKey);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.isStackless(getClass()) ? this : super.fillInStackTrace();
+    }
+}
@@ -0,0 +1,25 @@
+package com.dct.config.exception;
+
+import com.dct.model.exception.BaseIllegalArgumentException;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseIllegalArgumentException} created without stack trace when allowed by the {@link StackTracePolicy} <p>
+ * Thrown by the starter for ordinary client errors, answered as 422 Unprocessable Entity
+ *
+ * @author thoaidc
+ */
+public class StacklessIllegalArgumentException extends BaseIllegalArgumentException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessIllegalArgumentException(String entityName, String errorKey) {
+        super(entityName, errorKey);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.isStackless(getClass()) ? this : super.fillInStackTrace();
+    }
+}
@@ -0,0 +1,50 @@
+package com.dct.config.i18n;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+import java.util.Locale;
+
+/**
+ * {@link AcceptHeaderLocaleResolver} that caches the resolved locale per raw Accept-Language header <p>
+ * The resolved locale only depends on the header, the supported locales and the default locale,
+ * so a cache hit skips parsing the header and matching its language ranges <p>
+ * The cache is bounded and headers longer than {@link #MAX_CACHED_HEADER_LENGTH} are never cached,
+ * so that arbitrary headers sent by clients cannot exhaust it
+ *
+ * @author thoaidc
+ */
+public class CachingAcceptHeaderLocaleResolver extends AcceptHeaderLocaleResolver {
+    private static final int MAX_CACHED_HEADER_LENGTH = 256;
+    private final Cache<String, Locale> resolvedLocales;
+
+    public CachingAcceptHeaderLocaleResolver(long maximumCacheSize) {
+        this.resolvedLocales = Caffeine.newBuilder().maximumSize(maximumCacheSize).build();
+    }
+
+    @Override
+    @Nonnull
+    public Locale resolveLocale(@Nonnull HttpServletRequest request) {
+        String acceptLanguage = request.getHeader(HttpHeaders.ACCEPT_LANGUAGE);
+
+        if (!StringUtils.hasText(acceptLanguage) || acceptLanguage.length() > MAX_CACHED_HEADER_LENGTH) {
+            return super.resolveLocale(request);
+        }
+
+        return resolvedLocales.get(acceptLanguage, header -> super.resolveLocale(request));
+    }
+
+    /**
+     * Must be called after changing the supported or default locales
+     */
+    public void clearCache() {
+        resolvedLocales.invalidateAll();
+    }
+}
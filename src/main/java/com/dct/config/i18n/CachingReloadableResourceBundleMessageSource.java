@@ -0,0 +1,96 @@
+package com.dct.config.i18n;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.Nonnull;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link ReloadableResourceBundleMessageSource} that caches every resolved message per (code, locale) <p>
+ * Messages without arguments are cached as resolved strings and parameterized messages as precompiled
+ * {@link MessageFormat}s, missing codes are cached too, so translating a message costs a single lookup
+ * instead of searching all bundle files of the locale fallback chain <p>
+ * Caching only applies when bundles are never refreshed (cacheSeconds &lt; 0, the default),
+ * it is cleared by {@link #clearCache()} and by a {@link MessagesReloadedEvent}
+ *
+ * @author thoaidc
+ */
+public class CachingReloadableResourceBundleMessageSource extends ReloadableResourceBundleMessageSource
+        implements ApplicationListener<MessagesReloadedEvent>, ApplicationEventPublisherAware {
+    private static final long MAX_CACHED_MESSAGES = 10_000;
+    private final Cache<MessageKey, Optional<String>> messages = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+    private final Cache<MessageKey, Optional<MessageFormat>> messageFormats = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    protected String resolveCodeWithoutArguments(@Nonnull String code, @Nonnull Locale locale) {
+        if (getCacheMillis() >= 0) {
+            return super.resolveCodeWithoutArguments(code, locale);
+        }
+
+        return messages.get(
+            new MessageKey(code, locale),
+            key -> Optional.ofNullable(super.resolveCodeWithoutArguments(code, locale))
+        ).orElse(null);
+    }
+
+    @Override
+    protected MessageFormat resolveCode(@Nonnull String code, @Nonnull Locale locale) {
+        if (getCacheMillis() >= 0) {
+            return super.resolveCode(code, locale);
+        }
+
+        return messageFormats.get(
+            new MessageKey(code, locale),
+            key -> Optional.ofNullable(super.resolveCode(code, locale))
+        ).orElse(null);
+    }
+
+    /**
+     * Reloads the message bundles and notifies the components caching translated messages
+     */
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        clearResolvedMessages();
+
+        if (Objects.nonNull(eventPublisher)) {
+            eventPublisher.publishEvent(new MessagesReloadedEvent(this));
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(@Nonnull MessagesReloadedEvent event) {
+        // Events published by this message source have already been handled in clearCache()
+        if (event.getSource() != this) {
+            super.clearCache();
+            clearResolvedMessages();
+        }
+    }
+
+    @Override
+    public void setApplicationEventPublisher(@Nonnull ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
+    private void clearResolvedMessages() {
+        messages.invalidateAll();
+        messageFormats.invalidateAll();
+    }
+
+    private record MessageKey(String code, Locale locale) {}
+}
@@ -0,0 +1,21 @@
+package com.dct.config.i18n;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+
+/**
+ * Published after the i18n message bundles have been reloaded <p>
+ * Components caching translated messages (e.g. {@link com.dct.config.common.ErrorResponseWriter})
+ * clear their cache when receiving this event
+ *
+ * @author thoaidc
+ */
+public class MessagesReloadedEvent extends ApplicationEvent {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MessagesReloadedEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dct.config.interceptor;
+
+import com.dct.model.common.MessageTranslationUtils;
+import com.dct.model.dto.response.BaseResponseDTO;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.annotation.Nonnull;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes {@link BaseResponseDTO} responses as JSON directly to the response output stream <p>
+ * The message is translated while writing, so {@link DefaultBaseResponseFilter} does not need to process responses
+ * handled by this converter and no response entity is rebuilt around the body <p>
+ * A single {@link ObjectWriter} is shared by all responses, so serializers are resolved once per response type <p>
+ * The generator is closed after each response so that Jackson recycles its buffers,
+ * the output stream of the response is only written to and flushed, never closed
+ *
+ * @author thoaidc
+ */
+public class BaseResponseDTOHttpMessageConverter extends AbstractHttpMessageConverter<BaseResponseDTO> {
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter objectWriter;
+    private final MessageTranslationUtils messageUtils;
+
+    public BaseResponseDTOHttpMessageConverter(ObjectMapper objectMapper, MessageTranslationUtils messageUtils) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.jsonFactory = objectMapper.getFactory();
+        this.objectWriter = objectMapper.writer();
+        this.messageUtils = messageUtils;
+    }
+
+    @Override
+    protected boolean supports(@Nonnull Class<?> clazz) {
+        return BaseResponseDTO.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Requests are still read by the Jackson converter configured by Spring
+     */
+    @Override
+    public boolean canRead(@Nonnull Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @Nonnull
+    protected BaseResponseDTO readInternal(@Nonnull Class<? extends BaseResponseDTO> clazz,
+                                           @Nonnull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("BaseResponseDTO is write-only for this converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@Nonnull BaseResponseDTO responseDTO,
+                                 @Nonnull HttpOutputMessage outputMessage) throws IOException {
+        BaseResponseDTO translatedResponse = messageUtils.setResponseMessageI18n(responseDTO);
+
+        // Closing the generator releases its buffers to Jackson, the response output stream stays open
+        // since the servlet container owns and closes it
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(body, JsonEncoding.UTF8)) {
+            objectWriter.writeValue(generator, translatedResponse);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write BaseResponseDTO: " + e.getMessage(), e);
+        }
+    }
+}
@@ -23,6 +23,12 @@ public class DefaultBaseResponseFilter extends BaseResponseFilter {
     @Override
     protected boolean isSupport(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converter) {
         log.debug("[I18N_SUPPORT_RESPONSE_TYPE] - Supports types: `BaseResponseDTO`, `ResponseEntity`");
+
+        // Messages are translated by the converter itself while writing the response
+        if (BaseResponseDTOHttpMessageConverter.class.isAssignableFrom(converter)) {
+            return false;
+        }
+
         boolean isBaseResponseDTOType = BaseResponseDTO.class.isAssignableFrom(returnType.getParameterType());
         boolean isBasicResponseEntity = ResponseEntity.class.isAssignableFrom(returnType.getParameterType());
         return isBaseResponseDTOType || isBasicResponseEntity;
@@ -1,5 +1,6 @@
 package com.dct.config.interceptor;
 
+import com.dct.config.common.DeduplicatingErrorLogger;
 import com.dct.model.exception.BaseInternalServerException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.retry.Retry;
@@ -11,11 +12,14 @@ import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 
 import java.io.IOException;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 /**
@@ -62,6 +66,8 @@ import java.util.function.Supplier;
 public class DefaultCircuitBreakerRestTemplateInterceptor extends BaseCircuitBreakerRestTemplateInterceptor {
     private static final Logger log = LoggerFactory.getLogger(DefaultCircuitBreakerRestTemplateInterceptor.class);
     private static final String ENTITY_NAME = "com.dct.config.interceptor.DefaultCircuitBreakerRestTemplateInterceptor";
+    // Hands the security context of the calling thread to the async HTTP call and clears it afterward
+    private static final Executor TIME_LIMITER_EXECUTOR = new DelegatingSecurityContextExecutor(ForkJoinPool.commonPool());
     private final CircuitBreaker circuitBreaker;
     private final TimeLimiter timeLimiter;
     private final Retry retry;
@@ -116,7 +122,7 @@ public class DefaultCircuitBreakerRestTemplateInterceptor extends BaseCircuitBre
                         "[CIRCUIT_BREAKER_TIME_LIMITER] - Starting async execution with timeout {}ms",
                         timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis()
                     );
-                    return CompletableFuture.supplyAsync(finalSupplier);
+                    return CompletableFuture.supplyAsync(finalSupplier, TIME_LIMITER_EXECUTOR);
                 }
             );
 
@@ -153,7 +159,7 @@ public class DefaultCircuitBreakerRestTemplateInterceptor extends BaseCircuitBre
                 log.debug("[CB_REST_TEMPLATE] - Received: {} {}", response.getStatusCode(), response.getStatusText());
                 return response;
             } catch (IOException e) {
-                log.error("[CB_REST_TEMPLATE] - IOException occurred: {}", e.getMessage(), e);
+                DeduplicatingErrorLogger.error(log, "[CB_REST_TEMPLATE] - IOException occurred: {}", e.getMessage(), e);
                 throw new RuntimeException(e);
             }
         };
@@ -165,7 +171,7 @@ public class DefaultCircuitBreakerRestTemplateInterceptor extends BaseCircuitBre
      * Converts execution exceptions into a {@link BaseInternalServerException} for consistent error handling.
      */
     private BaseInternalServerException circuitBreakerException(Exception e) {
-        log.error("[CIRCUIT_BREAKER_INTERCEPTOR] - Request failed: {}", e.getMessage(), e);
+        DeduplicatingErrorLogger.error(log, "[CIRCUIT_BREAKER_INTERCEPTOR] - Request failed: {}", e.getMessage(), e);
         return BaseInternalServerException.builder()
                 .entityName(ENTITY_NAME)
                 .originalMessage(e.getMessage())
@@ -1,6 +1,7 @@
 package com.dct.config.interceptor;
 
-import com.dct.model.common.SecurityUtils;
+import com.dct.config.security.identity.IdentityHeaderCodec;
+import com.dct.config.security.matcher.PublicRequestMatcher;
 import com.dct.model.config.properties.SecurityProps;
 import com.dct.model.constants.BaseExceptionConstants;
 import com.dct.model.constants.BaseSecurityConstants;
@@ -10,12 +11,14 @@ import com.dct.model.exception.BaseAuthenticationException;
 import feign.RequestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -60,10 +63,21 @@ import java.util.stream.Collectors;
 public class DefaultFeignAuthenticationRequestFilter extends BaseFeignAuthenticationRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(DefaultFeignAuthenticationRequestFilter.class);
     private static final String ENTITY_NAME = "com.dct.config.interceptor.DefaultFeignAuthenticationRequestFilter";
-    private final SecurityProps securityProps;
+    private final PublicRequestMatcher publicRequestMatcher;
+    private final IdentityHeaderCodec identityHeaderCodec;
 
     public DefaultFeignAuthenticationRequestFilter(SecurityProps securityProps) {
-        this.securityProps = securityProps;
+        this(securityProps, null);
+    }
+
+    /**
+     * @param identityHeaderCodec optional codec of the signed identity header,
+     *                            when present it is sent instead of the separate user headers
+     */
+    public DefaultFeignAuthenticationRequestFilter(SecurityProps securityProps,
+                                                   @Nullable IdentityHeaderCodec identityHeaderCodec) {
+        this.publicRequestMatcher = new PublicRequestMatcher(securityProps.getExternalServicePublicRequestPatterns());
+        this.identityHeaderCodec = identityHeaderCodec;
     }
 
     /**
@@ -78,9 +92,15 @@ public class DefaultFeignAuthenticationRequestFilter extends BaseFeignAuthentica
         String requestUrl = URI.create(targetUrl).getPath() + requestTemplate.path();
         log.info("[FEIGN_REQUEST_FORWARDED] - Filtering: {}", requestUrl);
 
-        if (SecurityUtils.checkIfAuthenticationRequired(requestUrl, securityProps.getExternalServicePublicRequestPatterns())) {
+        if (publicRequestMatcher.isAuthenticationRequired(requestUrl)) {
             try {
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+                if (Objects.nonNull(identityHeaderCodec)) {
+                    requestTemplate.header(identityHeaderCodec.getHeaderName(), identityHeaderCodec.encode(authentication));
+                    return;
+                }
+
                 BaseUserDTO userDTO = (BaseUserDTO) authentication.getPrincipal();
                 Integer userId = userDTO.getId();
                 String username = userDTO.getUsername();
@@ -0,0 +1,62 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the executor running the count queries of paged searches concurrently, for example:
+ * <pre>
+ * app:
+ *   query:
+ *     concurrent-count:
+ *       activate: enabled
+ *       threads: 4
+ *       queue-capacity: 50
+ *       timeout: 5000
+ * </pre>
+ * Each running count holds a database connection, the pool size must leave room for these threads
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.CONCURRENT_COUNT_CONFIG)
+public class ConcurrentCountProps {
+    private ActivateStatus activate = ActivateStatus.DISABLED;
+    private int threads = 4;
+    private int queueCapacity = 50;
+    // Maximum time in milliseconds a search waits for its count after submitting it
+    private long timeout = 5_000;
+
+    public ActivateStatus getActivate() {
+        return activate;
+    }
+
+    public void setActivate(ActivateStatus activate) {
+        this.activate = activate;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,77 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the exceptions handled by {@link com.dct.config.exception.BaseExceptionHandler}, for example:
+ * <pre>
+ * app:
+ *   exception-handler:
+ *     stackless: enabled
+ *     stack-trace-types: com.dct.config.exception.StacklessIllegalArgumentException
+ *     error-log-summary-interval: 10s
+ * </pre>
+ * The error log settings apply to all errors logged by {@link com.dct.config.common.DeduplicatingErrorLogger}
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.EXCEPTION_HANDLER_CONFIG)
+public class ExceptionHandlerProps {
+    // Create the stackless client error exceptions of the starter without filling in their stack trace
+    private ActivateStatus stackless = ActivateStatus.DISABLED;
+    // Exception types, including their subtypes, which keep their stack trace in stackless mode
+    private List<Class<?>> stackTraceTypes = new ArrayList<>();
+    // Minimum time between two "N more occurrences" summaries of the same repeated error
+    private Duration errorLogSummaryInterval = Duration.ofSeconds(10);
+    // Number of top stack frames used to recognize a repeated error
+    private int errorLogStackFrames = 5;
+    // Maximum number of distinct repeated errors tracked at the same time
+    private long errorLogMaximumFingerprints = 1000;
+
+    public ActivateStatus getStackless() {
+        return stackless;
+    }
+
+    public void setStackless(ActivateStatus stackless) {
+        this.stackless = stackless;
+    }
+
+    public List<Class<?>> getStackTraceTypes() {
+        return stackTraceTypes;
+    }
+
+    public void setStackTraceTypes(List<Class<?>> stackTraceTypes) {
+        this.stackTraceTypes = stackTraceTypes;
+    }
+
+    public Duration getErrorLogSummaryInterval() {
+        return errorLogSummaryInterval;
+    }
+
+    public void setErrorLogSummaryInterval(Duration errorLogSummaryInterval) {
+        this.errorLogSummaryInterval = errorLogSummaryInterval;
+    }
+
+    public int getErrorLogStackFrames() {
+        return errorLogStackFrames;
+    }
+
+    public void setErrorLogStackFrames(int errorLogStackFrames) {
+        this.errorLogStackFrames = errorLogStackFrames;
+    }
+
+    public long getErrorLogMaximumFingerprints() {
+        return errorLogMaximumFingerprints;
+    }
+
+    public void setErrorLogMaximumFingerprints(long errorLogMaximumFingerprints) {
+        this.errorLogMaximumFingerprints = errorLogMaximumFingerprints;
+    }
+}
@@ -0,0 +1,87 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the signed identity header forwarded between services in header-forwarded mode <p>
+ * All services must share the same secret and the same ordered list of authorities,
+ * the position of an authority in this list is its ordinal on the wire, for example:
+ * <pre>
+ * app:
+ *   security:
+ *     identity-header:
+ *       activate: enabled
+ *       header-name: X-Identity
+ *       secret: base64-encoded-secret-of-at-least-32-bytes
+ *       time-to-live: 300000
+ *       authorities:
+ *         - ROLE_ADMIN
+ *         - ROLE_USER
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.IDENTITY_HEADER_CONFIG)
+public class IdentityHeaderProps {
+    private ActivateStatus activate = ActivateStatus.DISABLED;
+    private String headerName = "X-Identity";
+    private String secret;
+    // Validity in milliseconds of a signed identity header
+    private long timeToLive = 300_000;
+    private long maximumCacheSize = 10_000;
+    private List<String> authorities = new ArrayList<>();
+
+    public ActivateStatus getActivate() {
+        return activate;
+    }
+
+    public void setActivate(ActivateStatus activate) {
+        this.activate = activate;
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    public void setMaximumCacheSize(long maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    public void setAuthorities(List<String> authorities) {
+        this.authorities = authorities;
+    }
+}
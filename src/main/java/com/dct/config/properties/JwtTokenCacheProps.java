@@ -0,0 +1,42 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the verified access token cache used by {@link com.dct.config.security.filter.BaseJwtFilter} <p>
+ * Bound next to the JWT config of {@link com.dct.model.config.properties.SecurityProps}, for example:
+ * <pre>
+ * app:
+ *   security:
+ *     jwt:
+ *       token-cache:
+ *         activate: enabled
+ *         maximum-size: 10000
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.JWT_TOKEN_CACHE_CONFIG)
+public class JwtTokenCacheProps {
+    private ActivateStatus activate = ActivateStatus.DISABLED;
+    private long maximumSize = 10_000;
+
+    public ActivateStatus getActivate() {
+        return activate;
+    }
+
+    public void setActivate(ActivateStatus activate) {
+        this.activate = activate;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
@@ -0,0 +1,56 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Configuration of the default {@link org.springframework.web.servlet.LocaleResolver}, for example:
+ * <pre>
+ * app:
+ *   i18n:
+ *     locale-resolver:
+ *       supported-locales: vi,en
+ *       default-locale: vi
+ *       maximum-cache-size: 256
+ * </pre>
+ * Without supported locales, the first locale of the Accept-Language header is used as it is
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.LOCALE_RESOLVER_CONFIG)
+public class LocaleResolverProps {
+    private List<Locale> supportedLocales = new ArrayList<>();
+    // Used for requests without Accept-Language header, the locale of the server is used if not set
+    private Locale defaultLocale;
+    // Maximum number of distinct Accept-Language headers whose resolved locale is cached
+    private long maximumCacheSize = 256;
+
+    public List<Locale> getSupportedLocales() {
+        return supportedLocales;
+    }
+
+    public void setSupportedLocales(List<Locale> supportedLocales) {
+        this.supportedLocales = supportedLocales;
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    public void setDefaultLocale(Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    public long getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    public void setMaximumCacheSize(long maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+    }
+}
@@ -0,0 +1,74 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the default password encoder, the BCrypt cost factor is still read from
+ * {@link com.dct.model.config.properties.SecurityProps#getPasswordEncryptFactor()}, for example:
+ * <pre>
+ * app:
+ *   security:
+ *     password-encoder:
+ *       offload: enabled
+ *       threads: 4
+ *       queue-capacity: 100
+ *       timeout: 10000
+ *       upgrade-encoding: enabled
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.PASSWORD_ENCODER_CONFIG)
+public class PasswordEncoderProps {
+    // Run hashing on a dedicated bounded executor instead of the request threads
+    private ActivateStatus offload = ActivateStatus.DISABLED;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 100;
+    // Maximum time in milliseconds a request waits for its hashing task
+    private long timeout = 10_000;
+    // Store passwords with an algorithm id prefix and re-hash them on login when the algorithm or cost changes
+    private ActivateStatus upgradeEncoding = ActivateStatus.DISABLED;
+
+    public ActivateStatus getOffload() {
+        return offload;
+    }
+
+    public void setOffload(ActivateStatus offload) {
+        this.offload = offload;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public ActivateStatus getUpgradeEncoding() {
+        return upgradeEncoding;
+    }
+
+    public void setUpgradeEncoding(ActivateStatus upgradeEncoding) {
+        this.upgradeEncoding = upgradeEncoding;
+    }
+}
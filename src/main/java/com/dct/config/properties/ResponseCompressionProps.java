@@ -0,0 +1,115 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of {@link com.dct.config.compression.ResponseCompressionFilter}, for example:
+ * <pre>
+ * app:
+ *   response:
+ *     compression:
+ *       activate: enabled
+ *       min-response-size: 2048
+ *       level: 6
+ *       mime-types: application/json,text/html
+ *       pool-size: 16
+ *       precompressed-cache: enabled
+ *       cache-maximum-weight: 33554432
+ *       cache-maximum-body-size: 1048576
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.RESPONSE_COMPRESSION_CONFIG)
+public class ResponseCompressionProps {
+    private ActivateStatus activate = ActivateStatus.DISABLED;
+    // Bodies up to this size in bytes are sent uncompressed
+    private int minResponseSize = 2048;
+    // Deflate level, from 1 (fastest) to 9 (smallest)
+    private int level = 6;
+    private List<String> mimeTypes = new ArrayList<>(List.of(
+        "application/json",
+        "application/*+json",
+        "application/x-ndjson",
+        "application/xml",
+        "application/javascript",
+        "text/*"
+    ));
+    // Maximum number of idle deflaters kept per content coding
+    private int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+    // Cache compressed bodies of responses with a strong ETag
+    private ActivateStatus precompressedCache = ActivateStatus.DISABLED;
+    // Maximum total size in bytes of the cached bodies
+    private long cacheMaximumWeight = 32L * 1024 * 1024;
+    private int cacheMaximumBodySize = 1024 * 1024;
+
+    public ActivateStatus getActivate() {
+        return activate;
+    }
+
+    public void setActivate(ActivateStatus activate) {
+        this.activate = activate;
+    }
+
+    public int getMinResponseSize() {
+        return minResponseSize;
+    }
+
+    public void setMinResponseSize(int minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public List<String> getMimeTypes() {
+        return mimeTypes;
+    }
+
+    public void setMimeTypes(List<String> mimeTypes) {
+        this.mimeTypes = mimeTypes;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public ActivateStatus getPrecompressedCache() {
+        return precompressedCache;
+    }
+
+    public void setPrecompressedCache(ActivateStatus precompressedCache) {
+        this.precompressedCache = precompressedCache;
+    }
+
+    public long getCacheMaximumWeight() {
+        return cacheMaximumWeight;
+    }
+
+    public void setCacheMaximumWeight(long cacheMaximumWeight) {
+        this.cacheMaximumWeight = cacheMaximumWeight;
+    }
+
+    public int getCacheMaximumBodySize() {
+        return cacheMaximumBodySize;
+    }
+
+    public void setCacheMaximumBodySize(int cacheMaximumBodySize) {
+        this.cacheMaximumBodySize = cacheMaximumBodySize;
+    }
+}
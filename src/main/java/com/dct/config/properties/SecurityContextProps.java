@@ -0,0 +1,30 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.SecurityContextPropagation;
+import com.dct.config.constants.StarterPropertiesConstants;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the security context propagation between threads, for example:
+ * <pre>
+ * app:
+ *   security:
+ *     context:
+ *       propagation: explicit
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.SECURITY_CONTEXT_CONFIG)
+public class SecurityContextProps {
+    private SecurityContextPropagation propagation = SecurityContextPropagation.INHERITABLE;
+
+    public SecurityContextPropagation getPropagation() {
+        return propagation;
+    }
+
+    public void setPropagation(SecurityContextPropagation propagation) {
+        this.propagation = propagation;
+    }
+}
@@ -0,0 +1,29 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the responses written by {@link com.dct.config.streaming.StreamingResponseWriter}, for example:
+ * <pre>
+ * app:
+ *   response:
+ *     streaming:
+ *       flush-size: 500
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.STREAMING_RESPONSE_CONFIG)
+public class StreamingResponseProps {
+    private int flushSize = 500;
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public void setFlushSize(int flushSize) {
+        this.flushSize = flushSize;
+    }
+}
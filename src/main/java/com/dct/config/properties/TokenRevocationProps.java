@@ -0,0 +1,83 @@
+package com.dct.config.properties;
+
+import com.dct.config.constants.StarterPropertiesConstants;
+import com.dct.model.constants.ActivateStatus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the access token revocation checked by {@link com.dct.config.security.filter.BaseJwtFilter} <p>
+ * Revoked tokens are kept in memory on every node and shared through Redis when it is enabled, for example:
+ * <pre>
+ * app:
+ *   security:
+ *     jwt:
+ *       revocation:
+ *         activate: enabled
+ *         expected-revoked-tokens: 100000
+ *         false-positive-probability: 0.01
+ *         default-time-to-live: 86400000
+ *         redis-key-prefix: "dct:revoked-token:"
+ *         redis-channel: "dct:revoked-token"
+ * </pre>
+ *
+ * @author thoaidc
+ */
+@ConfigurationProperties(prefix = StarterPropertiesConstants.JWT_TOKEN_REVOCATION_CONFIG)
+public class TokenRevocationProps {
+    private ActivateStatus activate = ActivateStatus.DISABLED;
+    private long expectedRevokedTokens = 100_000;
+    private double falsePositiveProbability = 0.01;
+    // Lifetime in milliseconds of revoked tokens without a readable expiration
+    private long defaultTimeToLive = 86_400_000;
+    private String redisKeyPrefix = "dct:revoked-token:";
+    private String redisChannel = "dct:revoked-token";
+
+    public ActivateStatus getActivate() {
+        return activate;
+    }
+
+    public void setActivate(ActivateStatus activate) {
+        this.activate = activate;
+    }
+
+    public long getExpectedRevokedTokens() {
+        return expectedRevokedTokens;
+    }
+
+    public void setExpectedRevokedTokens(long expectedRevokedTokens) {
+        this.expectedRevokedTokens = expectedRevokedTokens;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public long getDefaultTimeToLive() {
+        return defaultTimeToLive;
+    }
+
+    public void setDefaultTimeToLive(long defaultTimeToLive) {
+        this.defaultTimeToLive = defaultTimeToLive;
+    }
+
+    public String getRedisKeyPrefix() {
+        return redisKeyPrefix;
+    }
+
+    public void setRedisKeyPrefix(String redisKeyPrefix) {
+        this.redisKeyPrefix = redisKeyPrefix;
+    }
+
+    public String getRedisChannel() {
+        return redisChannel;
+    }
+
+    public void setRedisChannel(String redisChannel) {
+        this.redisChannel = redisChannel;
+    }
+}
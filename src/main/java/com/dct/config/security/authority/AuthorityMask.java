@@ -0,0 +1,126 @@
+package com.dct.config.security.authority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Immutable bitset of authority ordinals assigned by {@link AuthorityRegistry} <p>
+ * Checking that a user has all required authorities is a bitwise AND of two masks,
+ * a single operation as long as fewer than 64 distinct authorities are registered
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public final class AuthorityMask implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    public static final AuthorityMask EMPTY = new AuthorityMask(new long[0]);
+    private final long[] words;
+
+    private AuthorityMask(long[] words) {
+        this.words = words;
+    }
+
+    static AuthorityMask of(int[] ordinals) {
+        int maxOrdinal = -1;
+
+        for (int ordinal : ordinals) {
+            maxOrdinal = Math.max(maxOrdinal, ordinal);
+        }
+
+        if (maxOrdinal < 0) {
+            return EMPTY;
+        }
+
+        long[] words = new long[(maxOrdinal >>> 6) + 1];
+
+        for (int ordinal : ordinals) {
+            words[ordinal >>> 6] |= 1L << ordinal;
+        }
+
+        return new AuthorityMask(words);
+    }
+
+    public boolean contains(int ordinal) {
+        int index = ordinal >>> 6;
+        return index < words.length && (words[index] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * @param required the mask of required authorities
+     * @return true if every authority of the required mask is also present in this mask
+     */
+    public boolean containsAll(AuthorityMask required) {
+        long[] requiredWords = required.words;
+
+        if (requiredWords.length == 1 && words.length >= 1) {
+            return (words[0] & requiredWords[0]) == requiredWords[0];
+        }
+
+        for (int i = 0; i < requiredWords.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+
+            if ((word & requiredWords[i]) != requiredWords[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the ordinals of this mask in ascending order
+     */
+    public int[] ordinals() {
+        int count = 0;
+
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        int[] ordinals = new int[count];
+        int position = 0;
+
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+
+            while (word != 0L) {
+                ordinals[position++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+
+        return ordinals;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof AuthorityMask mask && Arrays.equals(trimmed(), mask.trimmed()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(trimmed());
+    }
+
+    private long[] trimmed() {
+        int length = words.length;
+
+        while (length > 0 && words[length - 1] == 0L) {
+            length--;
+        }
+
+        return length == words.length ? words : Arrays.copyOf(words, length);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dct.config.security.authority;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.Serial;
+
+/**
+ * Authenticated {@link UsernamePasswordAuthenticationToken} that also carries the {@link AuthorityMask}
+ * of its authorities, used by authorization checks instead of comparing authority strings
+ *
+ * @author thoaidc
+ */
+public class AuthorityMaskAuthenticationToken extends UsernamePasswordAuthenticationToken {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private final AuthorityMask authorityMask;
+    private final boolean maskComplete;
+
+    public AuthorityMaskAuthenticationToken(Object principal, Object credentials, AuthoritySet authorities) {
+        super(principal, credentials, authorities.authorities());
+        this.authorityMask = authorities.mask();
+        this.maskComplete = authorities.complete();
+    }
+
+    public AuthorityMask getAuthorityMask() {
+        return authorityMask;
+    }
+
+    /**
+     * @return whether every authority of this token is part of its mask,
+     * otherwise authorities outside the registry can only be compared by name
+     */
+    public boolean isMaskComplete() {
+        return maskComplete;
+    }
+}
@@ -0,0 +1,147 @@
+package com.dct.config.security.authority;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns every distinct authority once and assigns it a stable ordinal for the lifetime of the application <p>
+ * Authorities strings (comma-separated, as stored in tokens and forwarded headers) are parsed once
+ * and the resulting {@link AuthoritySet} is reused, so resolving the authorities of a user
+ * does not allocate new {@link SimpleGrantedAuthority} instances on every request <p>
+ * Authorities required by the application are always interned. Authorities read from tokens and headers are only
+ * interned while the registry holds fewer than {@value #MAX_INTERNED_AUTHORITIES} authorities, further unknown names
+ * are resolved without ordinal and never match a mask, so forwarded values cannot grow the registry without bound
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class AuthorityRegistry {
+    private static final String SEPARATOR = ",";
+    private static final long MAX_CACHED_AUTHORITIES_STRINGS = 10_000;
+    private static final int MAX_INTERNED_AUTHORITIES = 4096;
+    private static final int NO_ORDINAL = -1;
+    private static final Map<String, InternedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+    private static final Cache<String, AuthoritySet> PARSED_AUTHORITIES = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_AUTHORITIES_STRINGS)
+            .build();
+
+    private AuthorityRegistry() {}
+
+    public static InternedAuthority intern(String authority) {
+        return AUTHORITIES.computeIfAbsent(authority, name ->
+            new InternedAuthority(NEXT_ORDINAL.getAndIncrement(), new SimpleGrantedAuthority(name))
+        );
+    }
+
+    public static int ordinalOf(String authority) {
+        return intern(authority).ordinal();
+    }
+
+    /**
+     * Resolves an authority read from a token or a header, interning it only while the registry is not full
+     * @return the interned authority, or an authority without ordinal
+     */
+    public static InternedAuthority resolve(String authority) {
+        InternedAuthority internedAuthority = AUTHORITIES.get(authority);
+
+        if (Objects.nonNull(internedAuthority)) {
+            return internedAuthority;
+        }
+
+        if (AUTHORITIES.size() < MAX_INTERNED_AUTHORITIES) {
+            return intern(authority);
+        }
+
+        return new InternedAuthority(NO_ORDINAL, new SimpleGrantedAuthority(authority));
+    }
+
+    /**
+     * Parses a comma-separated authorities string, blank entries are ignored
+     * @return the cached set of interned authorities
+     */
+    public static AuthoritySet parse(String authorities) {
+        if (Objects.isNull(authorities) || authorities.isBlank()) {
+            return AuthoritySet.EMPTY;
+        }
+
+        AuthoritySet authoritySet = PARSED_AUTHORITIES.getIfPresent(authorities);
+
+        if (Objects.nonNull(authoritySet)) {
+            return authoritySet;
+        }
+
+        String[] names = authorities.split(SEPARATOR);
+        Set<SimpleGrantedAuthority> grantedAuthorities = new LinkedHashSet<>();
+        int[] ordinals = new int[names.length];
+        int ordinalCount = 0;
+        boolean complete = true;
+
+        for (String authority : names) {
+            if (StringUtils.hasText(authority)) {
+                InternedAuthority internedAuthority = resolve(authority);
+
+                if (!grantedAuthorities.add(internedAuthority.grantedAuthority())) {
+                    continue;
+                }
+
+                if (internedAuthority.ordinal() == NO_ORDINAL) {
+                    complete = false;
+                } else {
+                    ordinals[ordinalCount++] = internedAuthority.ordinal();
+                }
+            }
+        }
+
+        AuthorityMask mask = AuthorityMask.of(Arrays.copyOf(ordinals, ordinalCount));
+        authoritySet = new AuthoritySet(Collections.unmodifiableSet(grantedAuthorities), mask, complete);
+
+        // Sets with authorities outside the registry are resolved again, their authorities may be interned later
+        if (complete) {
+            PARSED_AUTHORITIES.put(authorities, authoritySet);
+        }
+
+        return authoritySet;
+    }
+
+    public static AuthoritySet of(Collection<String> authorities) {
+        return parse(String.join(SEPARATOR, authorities));
+    }
+
+    /**
+     * Builds the mask of the given authorities as they are, blank values included, without any filtering
+     */
+    public static AuthorityMask maskOf(String... authorities) {
+        int[] ordinals = new int[authorities.length];
+
+        for (int i = 0; i < authorities.length; i++) {
+            ordinals[i] = ordinalOf(authorities[i]);
+        }
+
+        return AuthorityMask.of(ordinals);
+    }
+
+    public static AuthorityMask maskOf(Collection<? extends GrantedAuthority> authorities) {
+        return maskOf(authorities.stream().map(GrantedAuthority::getAuthority).toArray(String[]::new));
+    }
+
+    /**
+     * @param ordinal stable position of the authority in every {@link AuthorityMask}, -1 if not interned
+     * @param grantedAuthority shared authority instance
+     */
+    public record InternedAuthority(int ordinal, SimpleGrantedAuthority grantedAuthority) {}
+}
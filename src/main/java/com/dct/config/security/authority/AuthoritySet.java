@@ -0,0 +1,17 @@
+package com.dct.config.security.authority;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+
+/**
+ * Immutable set of interned authorities together with its precomputed {@link AuthorityMask}
+ *
+ * @param authorities interned authority instances shared by every user having them
+ * @param mask bitset of the authority ordinals
+ * @param complete whether every authority has an ordinal, the mask then covers the whole set
+ * @author thoaidc
+ */
+public record AuthoritySet(Set<SimpleGrantedAuthority> authorities, AuthorityMask mask, boolean complete) {
+    public static final AuthoritySet EMPTY = new AuthoritySet(Set.of(), AuthorityMask.EMPTY, true);
+}
@@ -1,8 +1,10 @@
 package com.dct.config.security.config;
 
+import com.dct.config.compression.ResponseCompressionFilter;
 import com.dct.config.security.filter.BaseAuthenticationFilter;
 import com.dct.config.security.handler.BaseOAuth2AuthenticationFailureHandler;
 import com.dct.config.security.handler.BaseOAuth2AuthenticationSuccessHandler;
+import com.dct.config.security.metrics.SecurityFilterTimingRecorder;
 import com.dct.model.common.SecurityUtils;
 import com.dct.model.config.properties.SecurityProps;
 
@@ -16,6 +18,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
 import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.HeaderWriterFilter;
@@ -73,6 +76,21 @@ public abstract class BaseSecurityFilterChainConfig {
         }
     }
 
+    /**
+     * Registers the default filters, then the opt-in response compression filter right before the CORS filter,
+     * so that every response written by the following filters and the application can be compressed
+     * @param http the security configuration
+     * @param compressionFilter the response compression filter, may be null
+     */
+    public void addFilters(HttpSecurity http, ResponseCompressionFilter compressionFilter) {
+        addFilters(http);
+
+        if (Objects.nonNull(compressionFilter)) {
+            log.debug("[RESPONSE_COMPRESSION_AUTO_CONFIG] - Use filter: {}", compressionFilter.getClass().getName());
+            http.addFilterBefore(compressionFilter, CorsFilter.class);
+        }
+    }
+
     public void exceptionHandlers(HttpSecurity http) throws Exception {
         log.debug("[AUTHENTICATION_EXCEPTION_HANDLER_AUTO_CONFIG] - Use default exception handlers configuration");
         http.exceptionHandling(handler -> handler
@@ -113,6 +131,17 @@ public abstract class BaseSecurityFilterChainConfig {
         .httpBasic(AbstractHttpConfigurer::disable);
     }
 
+    /**
+     * Opt-in instrumentation of the built chain, every filter is wrapped to record its own latency
+     * @param chain the security filter chain built from {@link HttpSecurity}
+     * @param timingRecorder records the latency of each filter per outcome
+     * @return the instrumented chain
+     */
+    public SecurityFilterChain instrumentFilters(SecurityFilterChain chain, SecurityFilterTimingRecorder timingRecorder) {
+        log.debug("[SECURITY_FILTER_METRICS_AUTO_CONFIG] - Record latency of each security filter");
+        return timingRecorder.instrument(chain);
+    }
+
     public void oauth2(HttpSecurity http) throws Exception {
         http.oauth2Login(oAuth2Config -> oAuth2Config
             .successHandler(oAuth2SuccessHandler)
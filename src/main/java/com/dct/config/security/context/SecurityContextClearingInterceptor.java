@@ -0,0 +1,23 @@
+package com.dct.config.security.context;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Clears the security context after each invocation, used in the advice chain of message listener containers
+ * whose consumer threads are long-lived and must not carry a principal from one message to the next
+ *
+ * @author thoaidc
+ */
+public class SecurityContextClearingInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dct.config.security.context;
+
+import com.dct.config.constants.SecurityContextPropagation;
+import com.dct.config.constants.StarterPropertiesConstants;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Applies the configured {@link SecurityContextPropagation} to the {@link SecurityContextHolder}
+ * before any bean is created, so every application using this starter gets the same strategy
+ * without changing its main method
+ *
+ * @author thoaidc
+ */
+public class SecurityContextPropagationPostProcessor implements EnvironmentPostProcessor {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        SecurityContextPropagation propagation = Binder.get(environment)
+                .bind(StarterPropertiesConstants.SECURITY_CONTEXT_PROPAGATION, SecurityContextPropagation.class)
+                .orElse(SecurityContextPropagation.INHERITABLE);
+
+        SecurityContextHolder.setStrategyName(propagation.getStrategyName());
+    }
+}
@@ -0,0 +1,22 @@
+package com.dct.config.security.context;
+
+import jakarta.annotation.Nonnull;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Hands the security context of the submitting thread over to the task (e.g. @Async methods) <p>
+ * The context is captured when the task is submitted and the previous context of the worker thread
+ * is restored once the task completes, so pooled or virtual threads never keep a stale principal
+ *
+ * @author thoaidc
+ */
+public class SecurityContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    @Nonnull
+    public Runnable decorate(@Nonnull Runnable runnable) {
+        return new DelegatingSecurityContextRunnable(runnable);
+    }
+}
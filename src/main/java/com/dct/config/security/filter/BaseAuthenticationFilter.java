@@ -1,8 +1,7 @@
 package com.dct.config.security.filter;
 
-import com.dct.model.common.JsonUtils;
+import com.dct.config.common.ErrorResponseWriter;
 import com.dct.model.constants.BaseHttpStatusConstants;
-import com.dct.model.dto.response.BaseResponseDTO;
 import com.dct.model.exception.BaseException;
 
 import jakarta.annotation.Nonnull;
@@ -13,11 +12,9 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.MediaType;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 @SuppressWarnings("unused")
 public abstract class BaseAuthenticationFilter extends OncePerRequestFilter {
@@ -48,17 +45,6 @@ public abstract class BaseAuthenticationFilter extends OncePerRequestFilter {
 
     protected void handleAuthException(HttpServletResponse response, BaseException exception) throws IOException {
         log.error("[AUTHENTICATION_FILTER_ERROR] - {}", exception.getClass().getName(), exception);
-        response.setStatus(BaseHttpStatusConstants.UNAUTHORIZED);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-
-        BaseResponseDTO responseDTO = BaseResponseDTO.builder()
-                .code(BaseHttpStatusConstants.UNAUTHORIZED)
-                .success(Boolean.FALSE)
-                .message(exception.getLocalizedMessage())
-                .build();
-
-        response.getWriter().write(JsonUtils.toJsonString(responseDTO));
-        response.flushBuffer();
+        ErrorResponseWriter.write(response, BaseHttpStatusConstants.UNAUTHORIZED, exception.getLocalizedMessage());
     }
 }
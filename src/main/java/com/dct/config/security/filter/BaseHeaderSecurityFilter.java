@@ -1,6 +1,11 @@
 package com.dct.config.security.filter;
 
-import com.dct.model.common.SecurityUtils;
+import com.dct.config.security.authority.AuthorityMaskAuthenticationToken;
+import com.dct.config.security.authority.AuthorityRegistry;
+import com.dct.config.security.authority.AuthoritySet;
+import com.dct.config.security.identity.ForwardedIdentity;
+import com.dct.config.security.identity.IdentityHeaderCodec;
+import com.dct.config.security.matcher.PublicRequestMatcher;
 import com.dct.model.config.properties.SecurityProps;
 import com.dct.model.constants.BaseExceptionConstants;
 import com.dct.model.constants.BaseSecurityConstants;
@@ -13,55 +18,61 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.StringUtils;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 public class BaseHeaderSecurityFilter extends BaseAuthenticationFilter{
 
     private static final Logger log = LoggerFactory.getLogger(BaseHeaderSecurityFilter.class);
     private static final String ENTITY_NAME = "com.dct.config.security.filter.BaseHeaderSecurityFilter";
-    private final SecurityProps securityProps;
+    private final PublicRequestMatcher publicRequestMatcher;
+    private final IdentityHeaderCodec identityHeaderCodec;
 
     public BaseHeaderSecurityFilter(SecurityProps securityProps) {
-        this.securityProps = securityProps;
+        this(securityProps, null);
+    }
+
+    /**
+     * @param identityHeaderCodec optional codec of the signed identity header,
+     *                            when present the legacy user headers are ignored
+     */
+    public BaseHeaderSecurityFilter(SecurityProps securityProps, @Nullable IdentityHeaderCodec identityHeaderCodec) {
+        this.publicRequestMatcher = new PublicRequestMatcher(securityProps.getPublicRequestPatterns());
+        this.identityHeaderCodec = identityHeaderCodec;
     }
 
     @Override
     protected boolean shouldAuthenticateRequest(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
         log.info("[HEADER_SECURITY_FORWARD_FILTER] - Filtering {}: {}", request.getMethod(), requestURI);
-        return SecurityUtils.checkIfAuthenticationRequired(requestURI, securityProps.getPublicRequestPatterns());
+        return publicRequestMatcher.isAuthenticationRequired(requestURI);
     }
 
     @Override
     protected void authenticate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+        if (Objects.nonNull(identityHeaderCodec)) {
+            authenticateWithIdentityHeader(request);
+            return;
+        }
+
         String userId = request.getHeader(BaseSecurityConstants.HEADER.USER_ID);
         String username = request.getHeader(BaseSecurityConstants.HEADER.USER_NAME);
         String authorities = request.getHeader(BaseSecurityConstants.HEADER.USER_AUTHORITIES);
         log.info("[RESOLVE_HEADER_FORWARDED] - userId: {}, username: {}", userId, username);
 
-        Collection<SimpleGrantedAuthority> userAuthorities = Arrays
-                .stream(Optional.ofNullable(authorities).orElse("").split(","))
-                .filter(StringUtils::hasText)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toSet());
+        AuthoritySet userAuthorities = AuthorityRegistry.parse(authorities);
 
         BaseUserDTO userDTO = BaseUserDTO.userBuilder()
                 .withId(Integer.parseInt(userId))
                 .withUsername(username)
-                .withAuthorities(userAuthorities)
+                .withAuthorities(userAuthorities.authorities())
                 .build();
 
         try {
-            Authentication authentication = new UsernamePasswordAuthenticationToken(userDTO, username, userAuthorities);
+            Authentication authentication = new AuthorityMaskAuthenticationToken(userDTO, username, userAuthorities);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
             log.error("[AUTHENTICATE_HEADER_ERROR] - Could not set authentication from header forwarded: {}", e.getMessage());
@@ -71,4 +82,30 @@ public class BaseHeaderSecurityFilter extends BaseAuthenticationFilter{
                     .build();
         }
     }
+
+    private void authenticateWithIdentityHeader(HttpServletRequest request) {
+        ForwardedIdentity identity = identityHeaderCodec.decode(request.getHeader(identityHeaderCodec.getHeaderName()));
+
+        if (Objects.isNull(identity)) {
+            log.error("[AUTHENTICATE_HEADER_ERROR] - Missing, invalid or expired identity header");
+            throw BaseAuthenticationException.builder()
+                    .entityName(ENTITY_NAME)
+                    .errorKey(BaseExceptionConstants.UNAUTHORIZED)
+                    .build();
+        }
+
+        BaseUserDTO userDTO = BaseUserDTO.userBuilder()
+                .withId(identity.userId())
+                .withShopId(identity.shopId())
+                .withUsername(identity.username())
+                .withAuthorities(identity.authorities().authorities())
+                .build();
+
+        Authentication authentication = new AuthorityMaskAuthenticationToken(
+            userDTO,
+            identity.username(),
+            identity.authorities()
+        );
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
@@ -1,7 +1,14 @@
 package com.dct.config.security.filter;
 
+import com.dct.config.exception.StacklessAuthenticationException;
+import com.dct.config.security.matcher.PublicRequestMatcher;
+import com.dct.config.security.revocation.TokenRevocationRegistry;
+import com.dct.config.security.token.AccessTokenCache;
+import com.dct.config.security.token.JwtTokenUtils;
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
 import com.dct.model.common.SecurityUtils;
 import com.dct.model.config.properties.SecurityProps;
+import com.dct.model.constants.BaseExceptionConstants;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,29 +16,78 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.util.UrlUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Objects;
 
 public class BaseJwtFilter extends BaseAuthenticationFilter {
     private static final Logger log = LoggerFactory.getLogger(BaseJwtFilter.class);
-    private final String[] publicRequestPatterns;
+    private static final String ENTITY_NAME = "com.dct.config.security.filter.BaseJwtFilter";
+    private final PublicRequestMatcher publicRequestMatcher;
     private final BaseJwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
+    private final TokenRevocationRegistry revocationRegistry;
 
     public BaseJwtFilter(SecurityProps securityProps, BaseJwtProvider jwtProvider) {
-        this.publicRequestPatterns = securityProps.getPublicRequestPatterns();
+        this(securityProps, jwtProvider, null);
+    }
+
+    /**
+     * @param accessTokenCache optional cache of verified tokens, repeated tokens skip signature verification
+     */
+    public BaseJwtFilter(SecurityProps securityProps,
+                         BaseJwtProvider jwtProvider,
+                         @Nullable AccessTokenCache accessTokenCache) {
+        this(securityProps, jwtProvider, accessTokenCache, null);
+    }
+
+    /**
+     * @param accessTokenCache optional cache of verified tokens, repeated tokens skip signature verification
+     * @param revocationRegistry optional registry of revoked tokens, checked before the cache and the verification
+     */
+    public BaseJwtFilter(SecurityProps securityProps,
+                         BaseJwtProvider jwtProvider,
+                         @Nullable AccessTokenCache accessTokenCache,
+                         @Nullable TokenRevocationRegistry revocationRegistry) {
+        this.publicRequestMatcher = new PublicRequestMatcher(securityProps.getPublicRequestPatterns());
         this.jwtProvider = jwtProvider;
+        this.accessTokenCache = accessTokenCache;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
     protected boolean shouldAuthenticateRequest(HttpServletRequest request) {
         log.info("[JWT_FILTER] - Filtering {}: {}", request.getMethod(), UrlUtils.buildRequestUrl(request));
-        return SecurityUtils.checkIfAuthenticationRequired(request.getRequestURI(), publicRequestPatterns);
+        return publicRequestMatcher.isAuthenticationRequired(request.getRequestURI());
     }
 
     @Override
     protected void authenticate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
-        Authentication authentication = this.jwtProvider.validateAccessToken(SecurityUtils.retrieveToken(request));
+        String token = SecurityUtils.retrieveToken(request);
+        boolean hasToken = StringUtils.hasText(token);
+        TokenDigest digest = null;
+        Authentication authentication;
+
+        if (hasToken && (Objects.nonNull(revocationRegistry) || Objects.nonNull(accessTokenCache))) {
+            digest = JwtTokenUtils.digest(token);
+        }
+
+        // Only checks local structures, valid tokens never cause a network call
+        if (Objects.nonNull(revocationRegistry) && Objects.nonNull(digest) && revocationRegistry.isRevoked(digest)) {
+            log.warn("[JWT_FILTER] - Rejected revoked token: {}", request.getRequestURI());
+            throw new StacklessAuthenticationException(ENTITY_NAME, BaseExceptionConstants.UNAUTHORIZED);
+        }
+
+        if (Objects.nonNull(accessTokenCache) && Objects.nonNull(digest)) {
+            authentication = accessTokenCache.get(digest, token, jwtProvider::validateAccessToken);
+        } else {
+            authentication = this.jwtProvider.validateAccessToken(token);
+        }
+
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
@@ -1,5 +1,8 @@
 package com.dct.config.security.filter;
 
+import com.dct.config.security.authority.AuthorityMaskAuthenticationToken;
+import com.dct.config.security.authority.AuthorityRegistry;
+import com.dct.config.security.authority.AuthoritySet;
 import com.dct.model.config.properties.SecurityProps;
 import com.dct.model.constants.BaseSecurityConstants;
 import com.dct.model.dto.auth.BaseTokenDTO;
@@ -14,21 +17,18 @@ import io.jsonwebtoken.security.Keys;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
-import java.util.Arrays;
 import java.util.Base64;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 public abstract class BaseJwtProvider extends AbstractJwtProvider {
     private static final Logger log = LoggerFactory.getLogger(BaseJwtProvider.class);
     private static final String ENTITY_NAME = "com.dct.model.security.filter.BaseJwtProvider";
+    // Extra claims are written with the field names of BaseTokenDTO, see Common#extractClaims
+    private static final String SHOP_NAME_CLAIM = "shopName";
     protected final JwtParser refreshTokenParser;
     protected final SecretKey refreshTokenSecretKey;
     protected final long ACCESS_TOKEN_VALIDITY;
@@ -68,18 +68,17 @@ public abstract class BaseJwtProvider extends AbstractJwtProvider {
             } catch (Exception ignored){}
 
             String username = (String) claims.get(BaseSecurityConstants.TOKEN_PAYLOAD.USERNAME);
+            String shopName = claims.get(SHOP_NAME_CLAIM) instanceof String name ? name : null;
             String authorities = (String) claims.get(BaseSecurityConstants.TOKEN_PAYLOAD.AUTHORITIES);
-            Set<SimpleGrantedAuthority> userAuthorities = Arrays.stream(authorities.split(","))
-                    .filter(StringUtils::hasText)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toSet());
+            AuthoritySet userAuthorities = AuthorityRegistry.parse(authorities);
             BaseUserDTO principal = BaseUserDTO.userBuilder()
                     .withId(userId)
                     .withShopId(shopId)
+                    .withShopName(shopName)
                     .withUsername(username)
-                    .withAuthorities(userAuthorities)
+                    .withAuthorities(userAuthorities.authorities())
                     .build();
-            return new UsernamePasswordAuthenticationToken(principal, username, userAuthorities);
+            return new AuthorityMaskAuthenticationToken(principal, username, userAuthorities);
         } catch (Exception e) {
             log.error("[JWT_PROVIDER_GET_AUTHENTICATION_ERROR] - error: {}", e.getMessage());
             throw new BaseIllegalArgumentException(ENTITY_NAME, "Could not get authentication from token");
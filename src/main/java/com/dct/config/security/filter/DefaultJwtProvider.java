@@ -1,6 +1,6 @@
 package com.dct.config.security.filter;
 
-import com.dct.config.common.Common;
+import com.dct.config.security.token.JwtClaimExtractor;
 import com.dct.model.config.properties.SecurityProps;
 import com.dct.model.constants.BaseSecurityConstants;
 import com.dct.model.dto.auth.BaseTokenDTO;
@@ -14,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
-import java.util.Map;
 import java.util.Set;
 
 @SuppressWarnings("unused")
@@ -42,7 +41,6 @@ public class DefaultJwtProvider extends BaseJwtProvider {
     }
 
     private String generateToken(BaseTokenDTO tokenDTO, SecretKey secretKey, long tokenValidityInMilliseconds) {
-        Map<String, Object> extraClaims = Common.extractClaims(tokenDTO);
         Set<String> userAuthorities = tokenDTO.getAuthorities();
         JwtBuilder builder = Jwts.builder()
                 .subject(tokenDTO.getUsername())
@@ -52,7 +50,7 @@ public class DefaultJwtProvider extends BaseJwtProvider {
                 .signWith(secretKey)
                 .issuedAt(new Date())
                 .expiration(new Date(tokenValidityInMilliseconds));
-        extraClaims.forEach(builder::claim);
+        JwtClaimExtractor.forClass(tokenDTO.getClass()).writeTo(tokenDTO, builder::claim);
         return builder.compact();
     }
 }
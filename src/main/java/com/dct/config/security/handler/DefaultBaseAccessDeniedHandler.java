@@ -1,22 +1,19 @@
 package com.dct.config.security.handler;
 
-import com.dct.model.common.JsonUtils;
+import com.dct.config.common.ErrorResponseWriter;
 import com.dct.model.common.MessageTranslationUtils;
 import com.dct.model.constants.BaseHttpStatusConstants;
 import com.dct.model.constants.BaseExceptionConstants;
-import com.dct.model.dto.response.BaseResponseDTO;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 public class DefaultBaseAccessDeniedHandler implements AccessDeniedHandler {
 
@@ -42,15 +39,11 @@ public class DefaultBaseAccessDeniedHandler implements AccessDeniedHandler {
                        HttpServletResponse response,
                        AccessDeniedException exception) throws IOException {
         log.error("[ACCESS_DENIED_ERROR] - message: {}, url: {}", exception.getMessage(), request.getRequestURL());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE); // Convert response body to JSON
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.setStatus(BaseHttpStatusConstants.FORBIDDEN);
-        BaseResponseDTO responseDTO = BaseResponseDTO.builder()
-                .code(BaseHttpStatusConstants.FORBIDDEN)
-                .success(Boolean.FALSE)
-                .message(messageTranslationUtils.getMessageI18n(BaseExceptionConstants.FORBIDDEN))
-                .build();
-        response.getWriter().write(JsonUtils.toJsonString(responseDTO));
-        response.flushBuffer();
+        ErrorResponseWriter.writeTranslated(
+            response,
+            BaseHttpStatusConstants.FORBIDDEN,
+            BaseExceptionConstants.FORBIDDEN,
+            messageTranslationUtils
+        );
     }
 }
@@ -1,8 +1,9 @@
 package com.dct.config.security.handler;
 
-import com.dct.config.common.Common;
+import com.dct.config.common.ErrorResponseWriter;
 import com.dct.model.common.MessageTranslationUtils;
 import com.dct.model.constants.BaseExceptionConstants;
+import com.dct.model.constants.BaseHttpStatusConstants;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,7 +37,11 @@ public class DefaultBaseAuthenticationEntryPoint implements AuthenticationEntryP
                          HttpServletResponse response,
                          AuthenticationException e) throws IOException {
         log.error("[UNAUTHORIZED_ERROR] - message: {}, url: {}", e.getMessage(), request.getRequestURL());
-        String message = messageTranslationUtils.getMessageI18n(BaseExceptionConstants.UNAUTHORIZED);
-        Common.handleUnauthorizedError(response, message);
+        ErrorResponseWriter.writeTranslated(
+            response,
+            BaseHttpStatusConstants.UNAUTHORIZED,
+            BaseExceptionConstants.UNAUTHORIZED,
+            messageTranslationUtils
+        );
     }
 }
@@ -0,0 +1,19 @@
+package com.dct.config.security.identity;
+
+import com.dct.config.security.authority.AuthoritySet;
+
+/**
+ * Identity of the user decoded from a verified identity header
+ *
+ * @param userId id of the user
+ * @param shopId shop of the user, may be null
+ * @param username username of the user
+ * @param authorities interned authorities of the user
+ * @param expiresAtMillis epoch milliseconds after which the header is no longer accepted
+ * @author thoaidc
+ */
+public record ForwardedIdentity(Integer userId,
+                                Integer shopId,
+                                String username,
+                                AuthoritySet authorities,
+                                long expiresAtMillis) {}
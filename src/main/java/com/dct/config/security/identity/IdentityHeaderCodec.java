@@ -0,0 +1,301 @@
+package com.dct.config.security.identity;
+
+import com.dct.config.security.authority.AuthorityRegistry;
+import com.dct.config.security.authority.AuthoritySet;
+import com.dct.model.dto.auth.BaseUserDTO;
+import com.dct.model.exception.BaseIllegalArgumentException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encodes the identity of the current user into a single compact header signed with HMAC-SHA256,
+ * and verifies it on the receiving service <p>
+ * Layout of the binary payload (before the 32 bytes signature), encoded as Base64url without padding:
+ * <pre>
+ *   version (1 byte) | flags (1 byte) | expiration in epoch seconds (4 bytes)
+ *   | user id (4 bytes, if present) | shop id (4 bytes, if present) | username (2 bytes length + UTF-8)
+ *   | authority bitset (1 byte words count + 8 bytes per word)
+ *   | unregistered authorities (2 bytes count + for each: 2 bytes length + UTF-8)
+ * </pre>
+ * Authorities declared in the shared configuration are sent as bits, others are sent by name <p>
+ * Headers are cached per user identity (id, shop id, username and authorities) on the sending side,
+ * since each request carries a new {@link Authentication}, and verified identities are cached per header
+ * on the receiving side, until they expire
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class IdentityHeaderCodec {
+    private static final Logger log = LoggerFactory.getLogger(IdentityHeaderCodec.class);
+    private static final String ENTITY_NAME = "com.dct.config.security.identity.IdentityHeaderCodec";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final int FLAG_USER_ID = 1;
+    private static final int FLAG_SHOP_ID = 1 << 1;
+    private static final int FLAG_USERNAME = 1 << 2;
+    private final String headerName;
+    private final long timeToLive;
+    private final String[] authorities;
+    private final Map<String, Integer> authorityOrdinals = new HashMap<>();
+    private final ThreadLocal<Mac> macs;
+    private final Cache<IdentityKey, EncodedHeader> encodedHeaders;
+    private final Cache<String, ForwardedIdentity> verifiedIdentities;
+
+    /**
+     * @param headerName name of the identity header
+     * @param base64Secret shared HMAC secret, Base64 encoded
+     * @param timeToLive validity in milliseconds of a header
+     * @param authorities ordered list of authorities shared by all services
+     * @param maximumCacheSize maximum number of cached headers on each side
+     */
+    public IdentityHeaderCodec(String headerName,
+                               String base64Secret,
+                               long timeToLive,
+                               List<String> authorities,
+                               long maximumCacheSize) {
+        if (!StringUtils.hasText(base64Secret)) {
+            throw new BaseIllegalArgumentException(ENTITY_NAME, "Identity header secret must not be empty");
+        }
+
+        byte[] secret = Base64.getDecoder().decode(base64Secret);
+
+        if (secret.length < MIN_SECRET_LENGTH) {
+            throw new BaseIllegalArgumentException(ENTITY_NAME, "Identity header secret must have at least 32 bytes");
+        }
+
+        SecretKeySpec secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.headerName = headerName;
+        this.timeToLive = timeToLive;
+        this.authorities = authorities.toArray(String[]::new);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Could not initialize " + HMAC_ALGORITHM, e);
+            }
+        });
+        this.encodedHeaders = Caffeine.newBuilder().maximumSize(maximumCacheSize).build();
+        this.verifiedIdentities = Caffeine.newBuilder().maximumSize(maximumCacheSize).build();
+
+        for (int i = 0; i < this.authorities.length; i++) {
+            authorityOrdinals.putIfAbsent(this.authorities[i], i);
+        }
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    /**
+     * Returns the signed header of the authenticated user, reused until half of its validity has elapsed
+     * @param authentication an authentication whose principal is a {@link BaseUserDTO}
+     */
+    public String encode(Authentication authentication) {
+        long now = System.currentTimeMillis();
+        BaseUserDTO userDTO = (BaseUserDTO) authentication.getPrincipal();
+        IdentityKey key = new IdentityKey(
+            userDTO.getId(),
+            userDTO.getShopId(),
+            userDTO.getUsername(),
+            Set.copyOf(authorityNames(userDTO.getAuthorities()))
+        );
+        EncodedHeader cached = encodedHeaders.getIfPresent(key);
+
+        if (Objects.nonNull(cached) && cached.expiresAtMillis() - now > timeToLive / 2) {
+            return cached.value();
+        }
+
+        long expiresAtMillis = now + timeToLive;
+        String value = encode(userDTO, expiresAtMillis);
+        encodedHeaders.put(key, new EncodedHeader(value, expiresAtMillis));
+        return value;
+    }
+
+    /**
+     * Verifies the signature and the expiration of the header
+     * @return the decoded identity, or null if the header is invalid or expired
+     */
+    public ForwardedIdentity decode(String header) {
+        if (!StringUtils.hasText(header)) {
+            return null;
+        }
+
+        ForwardedIdentity identity = verifiedIdentities.getIfPresent(header);
+
+        if (Objects.isNull(identity)) {
+            identity = verify(header);
+
+            if (Objects.isNull(identity)) {
+                return null;
+            }
+
+            verifiedIdentities.put(header, identity);
+        }
+
+        return identity.expiresAtMillis() > System.currentTimeMillis() ? identity : null;
+    }
+
+    private String encode(BaseUserDTO userDTO, long expiresAtMillis) {
+        Integer userId = userDTO.getId();
+        Integer shopId = userDTO.getShopId();
+        byte[] username = Objects.nonNull(userDTO.getUsername())
+                ? userDTO.getUsername().getBytes(StandardCharsets.UTF_8)
+                : null;
+        long[] words = new long[(authorities.length + 63) >>> 6];
+        List<byte[]> unregisteredAuthorities = new ArrayList<>();
+        int unregisteredLength = 0;
+
+        for (String authority : authorityNames(userDTO.getAuthorities())) {
+            Integer ordinal = authorityOrdinals.get(authority);
+
+            if (Objects.nonNull(ordinal)) {
+                words[ordinal >>> 6] |= 1L << ordinal;
+            } else {
+                byte[] name = authority.getBytes(StandardCharsets.UTF_8);
+                unregisteredAuthorities.add(name);
+                unregisteredLength += Short.BYTES + name.length;
+            }
+        }
+
+        int flags = (Objects.nonNull(userId) ? FLAG_USER_ID : 0)
+                | (Objects.nonNull(shopId) ? FLAG_SHOP_ID : 0)
+                | (Objects.nonNull(username) ? FLAG_USERNAME : 0);
+        int length = 2 + Integer.BYTES
+                + (Objects.nonNull(userId) ? Integer.BYTES : 0)
+                + (Objects.nonNull(shopId) ? Integer.BYTES : 0)
+                + (Objects.nonNull(username) ? Short.BYTES + username.length : 0)
+                + 1 + words.length * Long.BYTES
+                + Short.BYTES + unregisteredLength;
+        ByteBuffer buffer = ByteBuffer.allocate(length + SIGNATURE_LENGTH);
+        buffer.put(VERSION).put((byte) flags).putInt((int) (expiresAtMillis / 1000));
+
+        if (Objects.nonNull(userId))
+            buffer.putInt(userId);
+
+        if (Objects.nonNull(shopId))
+            buffer.putInt(shopId);
+
+        if (Objects.nonNull(username))
+            buffer.putShort((short) username.length).put(username);
+
+        buffer.put((byte) words.length);
+
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+
+        buffer.putShort((short) unregisteredAuthorities.size());
+
+        for (byte[] name : unregisteredAuthorities) {
+            buffer.putShort((short) name.length).put(name);
+        }
+
+        byte[] content = buffer.array();
+        Mac mac = macs.get();
+        mac.update(content, 0, length);
+        buffer.put(mac.doFinal());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(content);
+    }
+
+    private ForwardedIdentity verify(String header) {
+        try {
+            byte[] content = Base64.getUrlDecoder().decode(header);
+            int length = content.length - SIGNATURE_LENGTH;
+
+            if (length <= 0 || content[0] != VERSION) {
+                return null;
+            }
+
+            Mac mac = macs.get();
+            mac.update(content, 0, length);
+            byte[] expectedSignature = mac.doFinal();
+            byte[] signature = new byte[SIGNATURE_LENGTH];
+            System.arraycopy(content, length, signature, 0, SIGNATURE_LENGTH);
+
+            if (!MessageDigest.isEqual(expectedSignature, signature)) {
+                log.warn("[IDENTITY_HEADER] - Rejected identity header with invalid signature");
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(content, 0, length);
+            buffer.get();
+            int flags = buffer.get();
+            long expiresAtMillis = Integer.toUnsignedLong(buffer.getInt()) * 1000L;
+            Integer userId = (flags & FLAG_USER_ID) != 0 ? buffer.getInt() : null;
+            Integer shopId = (flags & FLAG_SHOP_ID) != 0 ? buffer.getInt() : null;
+            String username = (flags & FLAG_USERNAME) != 0 ? readString(buffer) : null;
+            List<String> userAuthorities = new ArrayList<>();
+            int words = buffer.get();
+
+            for (int i = 0; i < words; i++) {
+                long word = buffer.getLong();
+
+                while (word != 0L) {
+                    int ordinal = (i << 6) + Long.numberOfTrailingZeros(word);
+
+                    if (ordinal < authorities.length) {
+                        userAuthorities.add(authorities[ordinal]);
+                    }
+
+                    word &= word - 1;
+                }
+            }
+
+            int unregisteredCount = buffer.getShort() & 0xFFFF;
+
+            for (int i = 0; i < unregisteredCount; i++) {
+                userAuthorities.add(readString(buffer));
+            }
+
+            AuthoritySet authoritySet = AuthorityRegistry.of(userAuthorities);
+            return new ForwardedIdentity(userId, shopId, username, authoritySet, expiresAtMillis);
+        } catch (RuntimeException e) {
+            log.warn("[IDENTITY_HEADER] - Rejected malformed identity header: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> authorityNames(Collection<? extends GrantedAuthority> authorities) {
+        if (Objects.isNull(authorities)) {
+            return List.of();
+        }
+
+        return authorities.stream().map(GrantedAuthority::getAuthority).filter(Objects::nonNull).toList();
+    }
+
+    private record IdentityKey(Integer userId, Integer shopId, String username, Set<String> authorities) {}
+
+    private record EncodedHeader(String value, long expiresAtMillis) {}
+}
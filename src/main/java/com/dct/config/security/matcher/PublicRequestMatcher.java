@@ -0,0 +1,120 @@
+package com.dct.config.security.matcher;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precompiled matcher over a list of Ant-style public request patterns <p>
+ * Built once at startup, the patterns are indexed by their first literal path segment
+ * so a request URI is only compared with the patterns that can possibly match it.
+ * Patterns starting with a wildcard are always checked <p>
+ * Decisions are memoized in a bounded per-URI cache, so repeated URIs are resolved with a single lookup
+ * regardless of the number of configured patterns
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class PublicRequestMatcher {
+    private static final Logger log = LoggerFactory.getLogger(PublicRequestMatcher.class);
+    private static final long DEFAULT_CACHE_SIZE = 10_000;
+    private static final String PATH_SEPARATOR = "/";
+    private static final String[] NO_PATTERNS = new String[0];
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, String[]> patternsByFirstSegment = new HashMap<>();
+    private final String[] wildcardPatterns;
+    private final Cache<String, Boolean> decisions;
+
+    public PublicRequestMatcher(String[] publicRequestPatterns) {
+        this(publicRequestPatterns, DEFAULT_CACHE_SIZE);
+    }
+
+    public PublicRequestMatcher(String[] publicRequestPatterns, long cacheSize) {
+        Map<String, List<String>> indexedPatterns = new HashMap<>();
+        List<String> wildcardPatterns = new ArrayList<>();
+
+        for (String pattern : Objects.nonNull(publicRequestPatterns) ? publicRequestPatterns : NO_PATTERNS) {
+            if (!StringUtils.hasText(pattern)) {
+                continue;
+            }
+
+            String firstSegment = firstSegment(pattern);
+
+            if (pathMatcher.isPattern(firstSegment) || firstSegment.isEmpty()) {
+                wildcardPatterns.add(pattern);
+            } else {
+                indexedPatterns.computeIfAbsent(firstSegment, segment -> new ArrayList<>()).add(pattern);
+            }
+        }
+
+        indexedPatterns.forEach((segment, patterns) ->
+            this.patternsByFirstSegment.put(segment, patterns.toArray(String[]::new))
+        );
+
+        this.wildcardPatterns = wildcardPatterns.toArray(String[]::new);
+        this.decisions = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        log.debug(
+            "[PUBLIC_REQUEST_MATCHER] - Compiled patterns: {}, wildcard patterns: {}",
+            Arrays.toString(publicRequestPatterns),
+            Arrays.toString(this.wildcardPatterns)
+        );
+    }
+
+    /**
+     * @param requestUri the request path, without query string
+     * @return true if the request does not match any public pattern and must be authenticated
+     */
+    public boolean isAuthenticationRequired(String requestUri) {
+        return !isPublic(requestUri);
+    }
+
+    public boolean isPublic(String requestUri) {
+        if (Objects.isNull(requestUri)) {
+            return false;
+        }
+
+        return decisions.get(requestUri, this::matchesAnyPattern);
+    }
+
+    private boolean matchesAnyPattern(String requestUri) {
+        String[] candidates = patternsByFirstSegment.get(firstSegment(requestUri));
+        return matchesAny(candidates, requestUri) || matchesAny(wildcardPatterns, requestUri);
+    }
+
+    private boolean matchesAny(String[] patterns, String requestUri) {
+        if (Objects.isNull(patterns)) {
+            return false;
+        }
+
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, requestUri)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String firstSegment(String path) {
+        int start = 0;
+
+        // Empty segments are ignored by AntPathMatcher, e.g. `//api/p` is matched as `/api/p`
+        while (path.startsWith(PATH_SEPARATOR, start)) {
+            start++;
+        }
+
+        int end = path.indexOf(PATH_SEPARATOR, start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dct.config.security.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event recorded for each execution of an instrumented security filter,
+ * only committed when the event is enabled in the running recording
+ *
+ * @author thoaidc
+ */
+@Name("com.dct.SecurityFilter")
+@Label("Security Filter")
+@Category({"DCT", "Security"})
+@Description("Time spent in a security filter, excluding the rest of the filter chain")
+@StackTrace(false)
+class SecurityFilterEvent extends jdk.jfr.Event {
+
+    @Label("Filter")
+    String filter;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Self Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long selfTime;
+}
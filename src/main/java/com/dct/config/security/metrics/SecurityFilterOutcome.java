@@ -0,0 +1,27 @@
+package com.dct.config.security.metrics;
+
+/**
+ * Outcome of a security filter for the current request, used as a metric tag
+ * <ul>
+ *   <li>{@link #PUBLIC}: the filter passed the request on without an authenticated user</li>
+ *   <li>{@link #AUTHENTICATED}: the filter passed the request on with an authenticated user</li>
+ *   <li>{@link #REJECTED}: the filter ended the request itself (e.g. wrote a 401/403) or threw an exception</li>
+ * </ul>
+ *
+ * @author thoaidc
+ */
+public enum SecurityFilterOutcome {
+    PUBLIC("public"),
+    AUTHENTICATED("authenticated"),
+    REJECTED("rejected");
+
+    private final String tag;
+
+    SecurityFilterOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,159 @@
+package com.dct.config.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the hashing of a CPU-intensive {@link PasswordEncoder} (e.g. BCrypt) on a dedicated bounded executor <p>
+ * At most `threads` hashes run at the same time and at most `queueCapacity` wait for a thread,
+ * further requests fail immediately with {@link PasswordHashingRejectedException} instead of
+ * occupying the request threads and the CPU needed by other endpoints <p>
+ * When a {@link MeterRegistry} is available, hashing latency, queue depth and rejections are recorded
+ *
+ * @author thoaidc
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(OffloadingPasswordEncoder.class);
+    private static final String TIMER_NAME = "dct.password.hashing";
+    private static final String QUEUE_GAUGE_NAME = "dct.password.hashing.queue";
+    private static final String REJECTED_COUNTER_NAME = "dct.password.hashing.rejected";
+    private static final String OPERATION_TAG = "operation";
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param delegate the password encoder doing the actual hashing
+     * @param threads maximum number of concurrent hashes
+     * @param queueCapacity maximum number of hashes waiting for a thread
+     * @param timeout maximum time in milliseconds a caller waits for its hash
+     * @param meterRegistry optional registry of the hashing metrics
+     */
+    public OffloadingPasswordEncoder(PasswordEncoder delegate,
+                                     int threads,
+                                     int queueCapacity,
+                                     long timeout,
+                                     @Nullable MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        if (Objects.nonNull(meterRegistry)) {
+            this.encodeTimer = Timer.builder(TIMER_NAME).tag(OPERATION_TAG, "encode").register(meterRegistry);
+            this.matchesTimer = Timer.builder(TIMER_NAME).tag(OPERATION_TAG, "matches").register(meterRegistry);
+            this.rejectedCounter = Counter.builder(REJECTED_COUNTER_NAME).register(meterRegistry);
+            Gauge.builder(QUEUE_GAUGE_NAME, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        } else {
+            this.encodeTimer = null;
+            this.matchesTimer = null;
+            this.rejectedCounter = null;
+        }
+
+        log.debug("[PASSWORD_HASHING] - Offload hashing to {} threads, queue capacity: {}", threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the hash prefix, no need to offload
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task, @Nullable Timer timer) {
+        Callable<T> timedTask = Objects.nonNull(timer) ? () -> timer.recordCallable(task) : task;
+        Future<T> future;
+
+        try {
+            future = executor.submit(timedTask);
+        } catch (RejectedExecutionException e) {
+            reject();
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reject();
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void reject() {
+        log.warn("[PASSWORD_HASHING] - Rejected hashing task, queue size: {}", executor.getQueue().size());
+
+        if (Objects.nonNull(rejectedCounter)) {
+            rejectedCounter.increment();
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
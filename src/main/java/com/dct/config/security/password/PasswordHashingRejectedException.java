@@ -0,0 +1,23 @@
+package com.dct.config.security.password;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a password hashing task cannot be accepted or completed in time because the hashing executor is saturated
+ * <p>Handled by {@link com.dct.config.exception.BaseExceptionHandler} as a 503 response
+ *
+ * @author thoaidc
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    public static final String ERROR_KEY = "exception.password.hashing.unavailable";
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
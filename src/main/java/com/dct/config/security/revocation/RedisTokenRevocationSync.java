@@ -0,0 +1,142 @@
+package com.dct.config.security.revocation;
+
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
+
+import jakarta.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shares revoked tokens between nodes through Redis <p>
+ * Each revocation is stored as a key expiring with the token and published on a channel,
+ * so the other nodes update their local {@link TokenRevocationRegistry} without querying Redis on each request <p>
+ * Revocations still alive in Redis are loaded when the application starts
+ *
+ * @author thoaidc
+ */
+public class RedisTokenRevocationSync implements TokenRevocationListener, MessageListener, InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenRevocationSync.class);
+    private static final String MESSAGE_SEPARATOR = ":";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private final TokenRevocationRegistry registry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String keyPrefix;
+    private final String channel;
+
+    public RedisTokenRevocationSync(TokenRevocationRegistry registry,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    String keyPrefix,
+                                    String channel) {
+        this.registry = registry;
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        registry.addListener(this);
+
+        try {
+            loadRevokedTokens();
+        } catch (Exception e) {
+            log.error("[REDIS_TOKEN_REVOCATION_ERROR] - Could not load revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onRevoked(TokenDigest digest, long expiresAtMillis) {
+        long timeToLive = expiresAtMillis - System.currentTimeMillis();
+
+        if (timeToLive <= 0) {
+            return;
+        }
+
+        String hexDigest = digest.toHex();
+        String expiresAt = String.valueOf(expiresAtMillis);
+        redisTemplate.opsForValue().set(keyPrefix + hexDigest, expiresAt, Duration.ofMillis(timeToLive));
+        redisTemplate.convertAndSend(channel, hexDigest + MESSAGE_SEPARATOR + expiresAt);
+    }
+
+    @Override
+    public void onMessage(@Nonnull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(MESSAGE_SEPARATOR);
+
+        try {
+            TokenDigest digest = TokenDigest.fromHex(body.substring(0, separatorIndex));
+            long expiresAtMillis = Long.parseLong(body.substring(separatorIndex + 1));
+            registry.revokeLocally(digest, expiresAtMillis);
+        } catch (Exception e) {
+            log.warn("[REDIS_TOKEN_REVOCATION] - Ignored invalid revocation message: {}", body);
+        }
+    }
+
+    private void loadRevokedTokens() {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(keyPrefix + "*").count(SCAN_BATCH_SIZE).build();
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> scannedKeys = new ArrayList<>();
+
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(scanOptions)) {
+                cursor.forEachRemaining(key -> scannedKeys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+
+            return scannedKeys;
+        });
+
+        int loaded = 0;
+
+        for (int i = 0; Objects.nonNull(keys) && i < keys.size(); i += SCAN_BATCH_SIZE) {
+            loaded += loadBatch(keys.subList(i, Math.min(i + SCAN_BATCH_SIZE, keys.size())));
+        }
+
+        log.debug("[REDIS_TOKEN_REVOCATION] - Loaded {} revoked tokens", loaded);
+    }
+
+    private int loadBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        int loaded = 0;
+
+        for (int i = 0; Objects.nonNull(values) && i < keys.size(); i++) {
+            String value = values.get(i);
+
+            if (Objects.isNull(value)) {
+                continue;
+            }
+
+            try {
+                TokenDigest digest = TokenDigest.fromHex(keys.get(i).substring(keyPrefix.length()));
+
+                if (registry.revokeLocally(digest, Long.parseLong(value))) {
+                    loaded++;
+                }
+            } catch (Exception e) {
+                log.warn("[REDIS_TOKEN_REVOCATION] - Ignored invalid revoked token key: {}", keys.get(i));
+            }
+        }
+
+        return loaded;
+    }
+}
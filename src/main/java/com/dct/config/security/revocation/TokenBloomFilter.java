@@ -0,0 +1,69 @@
+package com.dct.config.security.revocation;
+
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of token digests <p>
+ * Digests are SHA-256 values, so two of their 64-bit words are used directly as the base hashes
+ * of the double hashing scheme instead of hashing the token again <p>
+ * Entries cannot be removed, the owner replaces the whole filter when too many entries have expired
+ *
+ * @author thoaidc
+ */
+class TokenBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    TokenBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long expected = Math.max(expectedInsertions, 1L);
+        double probability = Math.min(Math.max(falsePositiveProbability, Double.MIN_VALUE), 0.5);
+        long optimalBits = (long) (-expected * Math.log(probability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Math.max((optimalBits + 63) >>> 6, 1L), Integer.MAX_VALUE - 8);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expected * Math.log(2)));
+    }
+
+    void put(TokenDigest digest) {
+        long hash1 = digest.getLong(0);
+        long hash2 = digest.getLong(Long.BYTES);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(TokenDigest digest) {
+        long hash1 = digest.getLong(0);
+        long hash2 = digest.getLong(Long.BYTES);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+}
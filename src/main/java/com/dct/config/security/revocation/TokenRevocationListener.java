@@ -0,0 +1,18 @@
+package com.dct.config.security.revocation;
+
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
+
+/**
+ * Notified when a token is revoked on this node, used to propagate revocations to other nodes
+ *
+ * @author thoaidc
+ */
+@FunctionalInterface
+public interface TokenRevocationListener {
+
+    /**
+     * @param digest digest of the revoked token
+     * @param expiresAtMillis epoch milliseconds after which the revocation can be forgotten
+     */
+    void onRevoked(TokenDigest digest, long expiresAtMillis);
+}
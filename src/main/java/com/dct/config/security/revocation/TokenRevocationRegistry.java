@@ -0,0 +1,180 @@
+package com.dct.config.security.revocation;
+
+import com.dct.config.security.token.JwtTokenUtils;
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local registry of revoked access tokens, identified by the SHA-256 digest of the raw token <p>
+ * A Bloom filter answers the common case (token not revoked) without any lookup,
+ * only possible matches are confirmed against an exact set whose entries expire with their token <p>
+ * Revocations made through {@link #revoke(String)} are forwarded to the registered {@link TokenRevocationListener}s,
+ * revocations received from other nodes are applied with {@link #revokeLocally(TokenDigest, long)}
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class TokenRevocationRegistry {
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+    private final long expectedRevokedTokens;
+    private final double falsePositiveProbability;
+    private final long defaultTimeToLive;
+    private final Cache<TokenDigest, Long> revokedTokens;
+    private final List<TokenRevocationListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong expiredSinceRebuild = new AtomicLong();
+    private final Object rebuildLock = new Object();
+    private volatile TokenBloomFilter bloomFilter;
+    // Number of insertions the current Bloom filter was sized for, guarded by rebuildLock
+    private long bloomFilterCapacity;
+
+    /**
+     * @param expectedRevokedTokens number of simultaneously revoked tokens the Bloom filter is sized for
+     * @param falsePositiveProbability target false positive probability of the Bloom filter
+     * @param defaultTimeToLive lifetime in milliseconds of revoked tokens without a readable expiration
+     */
+    public TokenRevocationRegistry(long expectedRevokedTokens, double falsePositiveProbability, long defaultTimeToLive) {
+        this.expectedRevokedTokens = expectedRevokedTokens;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.bloomFilter = new TokenBloomFilter(expectedRevokedTokens, falsePositiveProbability);
+        this.bloomFilterCapacity = expectedRevokedTokens;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new RevocationExpiry())
+                .removalListener((TokenDigest digest, Long expiresAt, RemovalCause cause) -> {
+                    if (RemovalCause.EXPIRED.equals(cause)) {
+                        expiredSinceRebuild.incrementAndGet();
+                    }
+                })
+                .build();
+    }
+
+    public boolean isRevoked(String token) {
+        return isRevoked(JwtTokenUtils.digest(token));
+    }
+
+    public boolean isRevoked(TokenDigest digest) {
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+
+        Long expiresAtMillis = revokedTokens.getIfPresent(digest);
+        return Objects.nonNull(expiresAtMillis) && expiresAtMillis > System.currentTimeMillis();
+    }
+
+    /**
+     * Revokes the token until its own expiration and notifies the registered listeners
+     */
+    public void revoke(String token) {
+        long expiresAtMillis = JwtTokenUtils.getExpirationMillis(token);
+
+        if (expiresAtMillis < 0) {
+            expiresAtMillis = System.currentTimeMillis() + defaultTimeToLive;
+        }
+
+        revoke(JwtTokenUtils.digest(token), expiresAtMillis);
+    }
+
+    public void revoke(TokenDigest digest, long expiresAtMillis) {
+        if (!revokeLocally(digest, expiresAtMillis)) {
+            return;
+        }
+
+        for (TokenRevocationListener listener : listeners) {
+            try {
+                listener.onRevoked(digest, expiresAtMillis);
+            } catch (Exception e) {
+                log.error("[TOKEN_REVOCATION_ERROR] - Could not propagate revoked token: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applies a revocation to this node only, without notifying the listeners
+     * @return false if the token is already expired and was not recorded
+     */
+    public boolean revokeLocally(TokenDigest digest, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+
+        synchronized (rebuildLock) {
+            if (Objects.nonNull(revokedTokens.getIfPresent(digest))) {
+                return true;
+            }
+
+            revokedTokens.put(digest, expiresAtMillis);
+            bloomFilter.put(digest);
+            rebuildIfNeeded();
+        }
+
+        return true;
+    }
+
+    public void addListener(TokenRevocationListener listener) {
+        listeners.add(listener);
+    }
+
+    public long size() {
+        return revokedTokens.estimatedSize();
+    }
+
+    /**
+     * Replaces the Bloom filter once it is saturated or when most of its entries have expired,
+     * because entries cannot be removed from a Bloom filter
+     */
+    private void rebuildIfNeeded() {
+        long insertions = bloomFilter.insertions();
+        boolean saturated = insertions > bloomFilterCapacity;
+        boolean mostlyExpired = insertions > 1_000 && expiredSinceRebuild.get() > insertions / 2;
+
+        if (!saturated && !mostlyExpired) {
+            return;
+        }
+
+        revokedTokens.cleanUp();
+        long revoked = revokedTokens.estimatedSize();
+        // Sized with room to grow, so the rebuilt filter is not saturated by the tokens it is built with
+        long capacity = Math.max(expectedRevokedTokens, revoked * 2);
+        TokenBloomFilter rebuiltFilter = new TokenBloomFilter(capacity, falsePositiveProbability);
+        revokedTokens.asMap().keySet().forEach(rebuiltFilter::put);
+        bloomFilter = rebuiltFilter;
+        bloomFilterCapacity = capacity;
+        expiredSinceRebuild.set(0);
+        log.debug("[TOKEN_REVOCATION] - Rebuilt Bloom filter with {} revoked tokens", revoked);
+    }
+
+    /**
+     * Each revoked token is remembered until the expiration of the token itself
+     */
+    private static class RevocationExpiry implements Expiry<TokenDigest, Long> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Long expiresAtMillis, long currentTime) {
+            long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.dct.config.security.token;
+
+import com.dct.config.security.token.JwtTokenUtils.TokenDigest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of access tokens that have already been verified <p>
+ * Entries are keyed by a SHA-256 digest of the token and expire exactly at the `exp` claim of the token,
+ * so a repeated token costs one hash and one lookup instead of a signature verification and claims parsing <p>
+ * Hit, miss and eviction counters are available through {@link #stats()}
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class AccessTokenCache {
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenCache.class);
+    private final Cache<TokenDigest, CachedAuthentication> cache;
+
+    public AccessTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        log.debug("[ACCESS_TOKEN_CACHE] - Initialized with maximum size: {}", maximumSize);
+    }
+
+    /**
+     * Returns the cached authentication of the token, or verifies it with the given validator on a cache miss <p>
+     * Tokens rejected by the validator are never cached, the validator exception is propagated as is
+     *
+     * @param token the raw access token
+     * @param validator verifies the token and builds its authentication
+     * @return the authentication of the token
+     */
+    public Authentication get(String token, Function<String, Authentication> validator) {
+        return get(JwtTokenUtils.digest(token), token, validator);
+    }
+
+    /**
+     * Same as {@link #get(String, Function)} when the digest of the token has already been computed
+     */
+    public Authentication get(TokenDigest digest, String token, Function<String, Authentication> validator) {
+        CachedAuthentication cached = cache.getIfPresent(digest);
+
+        if (Objects.nonNull(cached) && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+
+        Authentication authentication = validator.apply(token);
+        long expiresAtMillis = JwtTokenUtils.getExpirationMillis(token);
+
+        if (Objects.nonNull(authentication) && expiresAtMillis > System.currentTimeMillis()) {
+            cache.put(digest, new CachedAuthentication(authentication, expiresAtMillis));
+        }
+
+        return authentication;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(JwtTokenUtils.digest(token));
+    }
+
+    public void invalidate(TokenDigest digest) {
+        cache.invalidate(digest);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {}
+
+    /**
+     * Each entry lives until the expiration of its own token, regardless of reads or replacements
+     */
+    private static class TokenExpiry implements Expiry<TokenDigest, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key,
+                                      CachedAuthentication value,
+                                      long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key,
+                                    CachedAuthentication value,
+                                    long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
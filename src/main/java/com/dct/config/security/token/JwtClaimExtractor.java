@@ -0,0 +1,109 @@
+package com.dct.config.security.token;
+
+import com.dct.model.annotation.JwtIgnore;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Extracts the fields of an object as JWT claims, fields annotated with @{@link JwtIgnore} are skipped <p>
+ * The class hierarchy is scanned only once per type, field values are then read through precompiled
+ * {@link MethodHandle}s and written directly to the claim consumer (usually a JwtBuilder) <p>
+ * Fields are visited from the subclass to its superclasses and null values are skipped,
+ * so a non-null superclass field overrides a subclass field with the same name, as with a map of claims
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public final class JwtClaimExtractor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<JwtClaimExtractor> EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected JwtClaimExtractor computeValue(Class<?> type) {
+            return new JwtClaimExtractor(type);
+        }
+    };
+
+    private final String[] names;
+    private final MethodHandle[] getters;
+
+    private JwtClaimExtractor(Class<?> type) {
+        List<String> claimNames = new ArrayList<>();
+        List<MethodHandle> claimGetters = new ArrayList<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Class<?> clazz = type;
+
+        while (clazz != null) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(JwtIgnore.class))
+                    continue;
+
+                field.setAccessible(true);
+
+                try {
+                    claimNames.add(field.getName());
+                    claimGetters.add(toGetter(lookup.unreflectGetter(field), Modifier.isStatic(field.getModifiers())));
+                } catch (IllegalAccessException e) {
+                    claimNames.remove(claimNames.size() - 1);
+                }
+            }
+
+            clazz = clazz.getSuperclass();
+        }
+
+        this.names = claimNames.toArray(String[]::new);
+        this.getters = claimGetters.toArray(MethodHandle[]::new);
+    }
+
+    public static JwtClaimExtractor forClass(Class<?> type) {
+        return EXTRACTORS.get(type);
+    }
+
+    /**
+     * Writes every non-null field value of the source object to the given consumer, without intermediate map
+     * @param source object to extract claims from, must be an instance of the type of this extractor
+     * @param claims claim consumer, e.g. {@code jwtBuilder::claim}
+     */
+    public void writeTo(Object source, BiConsumer<String, Object> claims) {
+        for (int i = 0; i < getters.length; i++) {
+            Object value = read(getters[i], source);
+
+            if (Objects.nonNull(value)) {
+                claims.accept(names[i], value);
+            }
+        }
+    }
+
+    public Map<String, Object> extract(Object source) {
+        Map<String, Object> claims = new HashMap<>();
+        writeTo(source, claims::put);
+        return claims;
+    }
+
+    private static MethodHandle toGetter(MethodHandle getter, boolean isStatic) {
+        if (isStatic) {
+            return MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0, Object.class);
+        }
+
+        return getter.asType(GETTER_TYPE);
+    }
+
+    private static Object read(MethodHandle getter, Object source) {
+        try {
+            return (Object) getter.invokeExact(source);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not read claim value", e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.dct.config.security.token;
+
+import com.dct.model.autoconfig.DataConverterAutoConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Lightweight helpers to identify a JWT without verifying it again <p>
+ * Only use these methods on tokens that have already been verified by a JWT provider
+ *
+ * @author thoaidc
+ */
+@SuppressWarnings("unused")
+public class JwtTokenUtils {
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenUtils.class);
+    private static final ObjectMapper objectMapper = DataConverterAutoConfiguration.buildObjectMapper();
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String EXPIRATION_CLAIM = "exp";
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Missing digest algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    });
+
+    /**
+     * Computes a fixed size digest of the raw token, used as a cache key instead of the full token string
+     */
+    public static TokenDigest digest(String token) {
+        MessageDigest messageDigest = DIGESTS.get();
+        messageDigest.reset();
+        return new TokenDigest(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Reads the `exp` claim of the token payload without checking its signature
+     * @return expiration time in epoch milliseconds, or -1 if the token has no readable expiration
+     */
+    public static long getExpirationMillis(String token) {
+        try {
+            int start = token.indexOf('.');
+            int end = token.indexOf('.', start + 1);
+
+            if (start < 0 || end < 0) {
+                return -1L;
+            }
+
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(start + 1, end));
+            JsonNode expiration = objectMapper.readTree(payload).get(EXPIRATION_CLAIM);
+            return expiration != null && expiration.canConvertToLong() ? expiration.asLong() * 1000L : -1L;
+        } catch (Exception e) {
+            log.warn("[JWT_READ_EXPIRATION_ERROR] - Could not read token expiration: {}", e.getMessage());
+        }
+
+        return -1L;
+    }
+
+    /**
+     * Immutable SHA-256 digest of a token, compared by content
+     */
+    public static final class TokenDigest {
+        private final byte[] value;
+        private final int hash;
+
+        private TokenDigest(byte[] value) {
+            this.value = value;
+            this.hash = Arrays.hashCode(value);
+        }
+
+        /**
+         * Parses a digest previously formatted by {@link #toHex()}
+         * @throws IllegalArgumentException if the value is not a valid hex string
+         */
+        public static TokenDigest fromHex(String hex) {
+            if (hex.length() % 2 != 0) {
+                throw new IllegalArgumentException("Invalid token digest: " + hex);
+            }
+
+            byte[] value = new byte[hex.length() / 2];
+
+            for (int i = 0; i < value.length; i++) {
+                int high = Character.digit(hex.charAt(i * 2), 16);
+                int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+
+                if (high < 0 || low < 0) {
+                    throw new IllegalArgumentException("Invalid token digest: " + hex);
+                }
+
+                value[i] = (byte) ((high << 4) | low);
+            }
+
+            return new TokenDigest(value);
+        }
+
+        public byte[] toByteArray() {
+            return value.clone();
+        }
+
+        /**
+         * Reads 8 bytes of the digest starting at the given byte offset as a big-endian long,
+         * the digest bytes are already uniformly distributed and can be used as hash values
+         */
+        public long getLong(int offset) {
+            long result = 0L;
+
+            for (int i = offset; i < offset + Long.BYTES; i++) {
+                result = (result << 8) | (value[i] & 0xFFL);
+            }
+
+            return result;
+        }
+
+        public String toHex() {
+            StringBuilder hex = new StringBuilder(value.length * 2);
+
+            for (byte b : value) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return hex.toString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof TokenDigest digest && Arrays.equals(value, digest.value));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
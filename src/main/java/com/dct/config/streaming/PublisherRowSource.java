@@ -0,0 +1,127 @@
+package com.dct.config.streaming;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Bridges a {@link Flow.Publisher} to the blocking response writer <p>
+ * At most {@code prefetch} rows are requested ahead of the writer, more rows are requested
+ * only after half of them have been written
+ *
+ * @author thoaidc
+ */
+final class PublisherRowSource<T> implements RowSource<T> {
+    static final int DEFAULT_PREFETCH = 256;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(30);
+    private final Flow.Publisher<? extends T> publisher;
+    private final int prefetch;
+    private final Duration idleTimeout;
+
+    PublisherRowSource(Flow.Publisher<? extends T> publisher, int prefetch, Duration idleTimeout) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("Prefetch must be positive");
+        }
+
+        this.publisher = publisher;
+        this.prefetch = prefetch;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> consumer) throws Exception {
+        BlockingSubscriber<T> subscriber = new BlockingSubscriber<>(prefetch);
+        publisher.subscribe(subscriber);
+        subscriber.drainTo(consumer, idleTimeout.toNanos());
+    }
+
+    private static final class BlockingSubscriber<T> implements Flow.Subscriber<T> {
+        private static final Object COMPLETE = new Object();
+        private final int prefetch;
+        private final int replenishThreshold;
+        // Holds the requested rows plus the terminal signal
+        private final BlockingQueue<Object> signals;
+        private volatile Flow.Subscription subscription;
+
+        private BlockingSubscriber(int prefetch) {
+            this.prefetch = prefetch;
+            this.replenishThreshold = Math.max(1, prefetch / 2);
+            this.signals = new ArrayBlockingQueue<>(prefetch + 1);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!signals.offer(item)) {
+                subscription.cancel();
+                signals.clear();
+                signals.offer(new Failure(new IllegalStateException("Publisher sent more rows than requested")));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.offer(new Failure(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            signals.offer(COMPLETE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainTo(Consumer<? super T> consumer, long idleTimeoutNanos) throws Exception {
+            int written = 0;
+
+            try {
+                while (true) {
+                    Object signal = signals.poll(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+
+                    if (Objects.isNull(signal)) {
+                        throw new TimeoutException("No row received from the publisher within the idle timeout");
+                    }
+
+                    if (signal == COMPLETE) {
+                        return;
+                    }
+
+                    if (signal instanceof Failure failure) {
+                        throw failure.asException();
+                    }
+
+                    consumer.accept((T) signal);
+
+                    if (++written == replenishThreshold) {
+                        subscription.request(written);
+                        written = 0;
+                    }
+                }
+            } catch (Exception e) {
+                Flow.Subscription current = subscription;
+
+                if (Objects.nonNull(current)) {
+                    current.cancel();
+                }
+
+                throw e;
+            }
+        }
+    }
+
+    private record Failure(Throwable cause) {
+
+        private Exception asException() {
+            return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
+        }
+    }
+}
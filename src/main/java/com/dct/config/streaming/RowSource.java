@@ -0,0 +1,66 @@
+package com.dct.config.streaming;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Source of the rows of a streaming response, pushing them one by one to the response writer <p>
+ * {@link #forEach} is called on the thread writing the response, after the controller method has returned,
+ * so a source reading a database cursor should open it (and its transaction) inside {@link #forEach} <p>
+ * Rows are written as soon as they are received, the writer blocks while the client is reading,
+ * which slows down the source instead of buffering rows in memory
+ *
+ * @param <T> type of the rows
+ * @author thoaidc
+ */
+@FunctionalInterface
+public interface RowSource<T> {
+
+    /**
+     * Sends every row to the consumer, then releases the underlying resources
+     */
+    void forEach(Consumer<? super T> consumer) throws Exception;
+
+    /**
+     * The stream is closed once consumed, even if writing the response fails
+     */
+    static <T> RowSource<T> of(Stream<? extends T> stream) {
+        return consumer -> {
+            try (stream) {
+                stream.forEachOrdered(consumer);
+            }
+        };
+    }
+
+    /**
+     * The iterator is closed once consumed if it is {@link AutoCloseable}
+     */
+    static <T> RowSource<T> of(Iterator<? extends T> iterator) {
+        return consumer -> {
+            try {
+                iterator.forEachRemaining(consumer);
+            } finally {
+                if (iterator instanceof AutoCloseable closeable) {
+                    closeable.close();
+                }
+            }
+        };
+    }
+
+    static <T> RowSource<T> of(Flow.Publisher<? extends T> publisher) {
+        return of(publisher, PublisherRowSource.DEFAULT_PREFETCH, PublisherRowSource.DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param prefetch maximum number of rows requested from the publisher and not yet written
+     * @param idleTimeout maximum time to wait for the next row before failing the response
+     */
+    static <T> RowSource<T> of(Flow.Publisher<? extends T> publisher, int prefetch, Duration idleTimeout) {
+        Objects.requireNonNull(publisher, "publisher");
+        return new PublisherRowSource<>(publisher, prefetch, idleTimeout);
+    }
+}
@@ -0,0 +1,30 @@
+package com.dct.config.streaming;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats in which {@link StreamingResponseWriter} writes the rows of a {@link RowSource}
+ *
+ * @author thoaidc
+ */
+public enum StreamingFormat {
+    /**
+     * One JSON document per line, without any envelope
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON),
+
+    /**
+     * A {@link com.dct.model.dto.response.BaseResponseDTO} whose result is the JSON array of the rows
+     */
+    JSON_ARRAY(MediaType.APPLICATION_JSON);
+
+    private final MediaType mediaType;
+
+    StreamingFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
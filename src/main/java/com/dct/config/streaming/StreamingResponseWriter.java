@@ -0,0 +1,189 @@
+package com.dct.config.streaming;
+
+import com.dct.model.common.MessageTranslationUtils;
+import com.dct.model.dto.response.BaseResponseDTO;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Builds responses writing the rows of a {@link RowSource} incrementally, so that the memory used by an export
+ * does not depend on its number of rows <p>
+ * The returned {@link StreamingResponseBody} is written by Spring MVC on an async thread, rows are serialized one
+ * by one to the response output stream, which is flushed every {@code flushSize} rows <p>
+ * Example:
+ * <pre>
+ * &#64;GetMapping("/export")
+ * public ResponseEntity&lt;StreamingResponseBody&gt; export() {
+ *     return streamingResponseWriter.jsonArray(consumer -&gt; orderService.forEachOrder(consumer), "export.success");
+ * }
+ * </pre>
+ * These responses are not processed by {@link com.dct.config.interceptor.BaseResponseFilter},
+ * the message of the envelope is translated when the response starts
+ *
+ * @author thoaidc
+ */
+public class StreamingResponseWriter {
+    private static final Logger log = LoggerFactory.getLogger(StreamingResponseWriter.class);
+    private static final String RESULT_FIELD = "result";
+    private static final char LINE_SEPARATOR = '\n';
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter objectWriter;
+    private final MessageTranslationUtils messageUtils;
+    private final int flushSize;
+
+    public StreamingResponseWriter(ObjectMapper objectMapper, MessageTranslationUtils messageUtils, int flushSize) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        // Flushing is done once per chunk instead of after each row
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.messageUtils = messageUtils;
+        this.flushSize = Math.max(1, flushSize);
+    }
+
+    /**
+     * Writes each row as a JSON document on its own line ({@code application/x-ndjson})
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(RowSource<T> source) {
+        StreamingResponseBody body = outputStream -> write(outputStream, StreamingFormat.NDJSON, source, null);
+        return ResponseEntity.ok().contentType(StreamingFormat.NDJSON.getMediaType()).body(body);
+    }
+
+    /**
+     * Writes a successful {@link BaseResponseDTO} whose result is the JSON array of the rows
+     * @param messageKey message of the response, translated like other {@link BaseResponseDTO} messages
+     */
+    public <T> ResponseEntity<StreamingResponseBody> jsonArray(RowSource<T> source, String messageKey) {
+        BaseResponseDTO envelope = BaseResponseDTO.builder()
+                .code(HttpStatus.OK.value())
+                .success(Boolean.TRUE)
+                .message(messageKey)
+                .build();
+        return jsonArray(source, envelope);
+    }
+
+    /**
+     * Writes the given envelope with the JSON array of the rows as its result, any result of the envelope is ignored
+     */
+    public <T> ResponseEntity<StreamingResponseBody> jsonArray(RowSource<T> source, BaseResponseDTO envelope) {
+        StreamingResponseBody body = outputStream -> write(outputStream, StreamingFormat.JSON_ARRAY, source, envelope);
+        return ResponseEntity.ok().contentType(StreamingFormat.JSON_ARRAY.getMediaType()).body(body);
+    }
+
+    private <T> void write(OutputStream outputStream,
+                           StreamingFormat format,
+                           RowSource<T> source,
+                           BaseResponseDTO envelope) throws IOException {
+        // Closing the generator releases its buffers to Jackson, the response output stream stays open
+        // since the servlet container owns and closes it
+        OutputStream body = StreamUtils.nonClosing(outputStream);
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(body, JsonEncoding.UTF8)) {
+            // A failed export must not be completed with the closing brackets of the open envelope
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            writeRows(generator, format, source, envelope);
+        }
+    }
+
+    private <T> void writeRows(JsonGenerator generator,
+                               StreamingFormat format,
+                               RowSource<T> source,
+                               BaseResponseDTO envelope) throws IOException {
+        RowWriter<T> rows = new RowWriter<>(generator, format);
+
+        if (format == StreamingFormat.NDJSON) {
+            generator.setRootValueSeparator(null);
+        } else {
+            writeEnvelopeStart(generator, envelope);
+        }
+
+        try {
+            source.forEach(rows);
+        } catch (UncheckedIOException e) {
+            log.warn("[STREAMING_RESPONSE] - Stopped after {} rows, could not write response: {}",
+                    rows.count, e.getMessage());
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            log.error("[STREAMING_RESPONSE] - Stopped after {} rows, could not read rows: {}",
+                    rows.count, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[STREAMING_RESPONSE] - Stopped after {} rows, could not read rows: {}",
+                    rows.count, e.getMessage());
+            throw new IOException(e);
+        }
+
+        if (format == StreamingFormat.JSON_ARRAY) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        log.debug("[STREAMING_RESPONSE] - Streamed {} rows as {}", rows.count, format);
+    }
+
+    /**
+     * Writes the fields of the translated envelope, then opens the result array
+     */
+    private void writeEnvelopeStart(JsonGenerator generator, BaseResponseDTO envelope) throws IOException {
+        ObjectNode envelopeNode = objectMapper.valueToTree(messageUtils.setResponseMessageI18n(envelope));
+        envelopeNode.remove(RESULT_FIELD);
+        generator.writeStartObject();
+        Iterator<Map.Entry<String, JsonNode>> fields = envelopeNode.fields();
+
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
+
+        generator.writeArrayFieldStart(RESULT_FIELD);
+    }
+
+    private final class RowWriter<T> implements Consumer<T> {
+        private final JsonGenerator generator;
+        private final boolean lineSeparated;
+        private long count;
+
+        private RowWriter(JsonGenerator generator, StreamingFormat format) {
+            this.generator = generator;
+            this.lineSeparated = format == StreamingFormat.NDJSON;
+        }
+
+        @Override
+        public void accept(T row) {
+            try {
+                objectWriter.writeValue(generator, row);
+
+                if (lineSeparated) {
+                    generator.writeRaw(LINE_SEPARATOR);
+                }
+
+                if (++count % flushSize == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}